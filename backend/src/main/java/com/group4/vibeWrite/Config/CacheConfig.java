@@ -0,0 +1,47 @@
+package com.group4.vibeWrite.Config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Enables the Caffeine-backed caches declared under spring.cache.* in application.properties.
+ * Cache hit/miss/eviction metrics are published by the actuator when recordStats is set in the spec.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GRAMMAR_SENTENCE_CACHE = "grammarSentences";
+    public static final String SEO_RESULT_CACHE = "seoResults";
+
+    // Sentences are far more numerous than whole documents, so they get their own size bound
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> grammarSentenceCacheCustomizer(
+            GrammarServiceConfig.GrammarSettings grammarSettings) {
+        return cacheManager -> cacheManager.registerCustomCache(GRAMMAR_SENTENCE_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(grammarSettings.getSentenceCacheSize())
+                        .expireAfterAccess(Duration.ofHours(1))
+                        .recordStats()
+                        .build());
+    }
+
+    // Hot tier for SEO analyses, one entry per document
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> seoResultCacheCustomizer(
+            @Value("${vibewrite.seo.result-cache-size:5000}") long maximumSize) {
+        return cacheManager -> cacheManager.registerCustomCache(SEO_RESULT_CACHE,
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterAccess(Duration.ofHours(1))
+                        .recordStats()
+                        .build());
+    }
+}
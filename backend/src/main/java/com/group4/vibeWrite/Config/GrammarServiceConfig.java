@@ -6,12 +6,15 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class GrammarServiceConfig {
 
     @Bean
@@ -21,23 +24,51 @@ public class GrammarServiceConfig {
     }
 
     @Bean(name = "grammarTaskExecutor")
-    public Executor grammarTaskExecutor() {
+    public Executor grammarTaskExecutor(GrammarSettings grammarSettings) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
+        // Each check fans out several stages, so keep enough threads to run them side by side
+        executor.setCorePoolSize(grammarSettings.getStageExecutorPoolSize());
+        executor.setMaxPoolSize(grammarSettings.getStageExecutorPoolSize());
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("grammar-");
+        // Run the stage on the request thread rather than failing when the queue is full
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Dedicated to LanguageTool chunk checks, which are submitted from inside grammar stages;
+    // sharing grammarTaskExecutor could leave every thread waiting on queued chunks
+    @Bean(name = "languageToolTaskExecutor")
+    public Executor languageToolTaskExecutor(GrammarSettings grammarSettings) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, grammarSettings.getLanguageToolPoolSize()));
+        executor.setMaxPoolSize(Math.max(1, grammarSettings.getLanguageToolPoolSize()));
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("languagetool-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
 
     public static class GrammarSettings {
-        private int maxTextLength = 10000;
+        private int maxTextLength = 200000;
         private int maxErrorsReturned = 50;
         private boolean enableAdvancedChecking = true;
         private boolean enableStyleChecking = true;
         private boolean saveHistory = true;
         private int historyRetentionDays = 90;
+        private int languageToolPoolSize = Runtime.getRuntime().availableProcessors();
+        private long languageToolAcquireTimeoutMs = 5000;
+        private boolean enableResultCache = true;
+        private long sentenceCacheSize = 50000;
+        private int stageExecutorPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        private long stageTimeoutMs = 10000;
+        private int chunkingThreshold = 4000;
+        private int chunkSize = 2000;
+        private int historyQueueCapacity = 10000;
+        private int historyBatchSize = 200;
+        private long historyEnqueueTimeoutMs = 50;
 
         // Getters and setters
         public int getMaxTextLength() { return maxTextLength; }
@@ -57,5 +88,38 @@ public class GrammarServiceConfig {
 
         public int getHistoryRetentionDays() { return historyRetentionDays; }
         public void setHistoryRetentionDays(int historyRetentionDays) { this.historyRetentionDays = historyRetentionDays; }
+
+        public int getLanguageToolPoolSize() { return languageToolPoolSize; }
+        public void setLanguageToolPoolSize(int languageToolPoolSize) { this.languageToolPoolSize = languageToolPoolSize; }
+
+        public long getLanguageToolAcquireTimeoutMs() { return languageToolAcquireTimeoutMs; }
+        public void setLanguageToolAcquireTimeoutMs(long languageToolAcquireTimeoutMs) { this.languageToolAcquireTimeoutMs = languageToolAcquireTimeoutMs; }
+
+        public boolean isEnableResultCache() { return enableResultCache; }
+        public void setEnableResultCache(boolean enableResultCache) { this.enableResultCache = enableResultCache; }
+
+        public long getSentenceCacheSize() { return sentenceCacheSize; }
+        public void setSentenceCacheSize(long sentenceCacheSize) { this.sentenceCacheSize = sentenceCacheSize; }
+
+        public int getStageExecutorPoolSize() { return stageExecutorPoolSize; }
+        public void setStageExecutorPoolSize(int stageExecutorPoolSize) { this.stageExecutorPoolSize = stageExecutorPoolSize; }
+
+        public long getStageTimeoutMs() { return stageTimeoutMs; }
+        public void setStageTimeoutMs(long stageTimeoutMs) { this.stageTimeoutMs = stageTimeoutMs; }
+
+        public int getChunkingThreshold() { return chunkingThreshold; }
+        public void setChunkingThreshold(int chunkingThreshold) { this.chunkingThreshold = chunkingThreshold; }
+
+        public int getChunkSize() { return chunkSize; }
+        public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+        public int getHistoryQueueCapacity() { return historyQueueCapacity; }
+        public void setHistoryQueueCapacity(int historyQueueCapacity) { this.historyQueueCapacity = historyQueueCapacity; }
+
+        public int getHistoryBatchSize() { return historyBatchSize; }
+        public void setHistoryBatchSize(int historyBatchSize) { this.historyBatchSize = historyBatchSize; }
+
+        public long getHistoryEnqueueTimeoutMs() { return historyEnqueueTimeoutMs; }
+        public void setHistoryEnqueueTimeoutMs(long historyEnqueueTimeoutMs) { this.historyEnqueueTimeoutMs = historyEnqueueTimeoutMs; }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.group4.vibeWrite.DraftSchema.Entity;
 
+import com.group4.vibeWrite.draft_service.model.ReadabilityResult;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
@@ -33,4 +34,9 @@ public class Draft {
     @LastModifiedDate
     private LocalDateTime updatedTimestamp;
 
+    // Readability of the current content, recomputed only when contentHash changes
+    private ReadabilityResult readability;
+
+    private String contentHash;
+
 }
@@ -3,18 +3,32 @@ package com.group4.vibeWrite.DraftSchema.Service;
 import com.group4.vibeWrite.DraftSchema.Entity.Draft;
 import com.group4.vibeWrite.DraftSchema.Exception.InvalidDraftException;
 import com.group4.vibeWrite.DraftSchema.Repository.DraftRepository;
+import com.group4.vibeWrite.Util.ContentHasher;
+import com.group4.vibeWrite.draft_service.service.FleschKincaidService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DraftService {
 
     private final DraftRepository draftRepository;
+    private final FleschKincaidService fleschKincaidService;
+    private final MongoTemplate mongoTemplate;
 
     public Draft createDraft(Draft draft) {
         if (draft.getContent() == null || draft.getContent().isBlank()) {
@@ -24,6 +38,8 @@ public class DraftService {
             throw new InvalidDraftException("User ID cannot be empty");
         }
         draft.setTimestamp(LocalDateTime.now());
+        draft.setContentHash(null); // never trust a client-supplied score
+        refreshReadability(draft);
         return draftRepository.save(draft);
     }
 
@@ -54,6 +70,7 @@ public class DraftService {
 
         Draft draft = existingDraft.get();
         draft.setContent(updatedDraft.getContent());
+        refreshReadability(draft);
         draft.setUpdatedTimestamp(LocalDateTime.now()); // Update timestamp to reflect last modification
 
         return draftRepository.save(draft);
@@ -62,4 +79,57 @@ public class DraftService {
     public List<Draft> getDraftsByUserId(String userId) {
         return draftRepository.findByUserId(userId);
     }
+
+    /**
+     * Scores drafts saved before readability was stored, once, at startup. Only the readability
+     * and hash are written, and only while the draft still has no hash, so an edit made in the
+     * meantime is never overwritten with a score of its old content.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReadability() {
+        Query unscored = Query.query(Criteria.where("contentHash").exists(false));
+        unscored.fields().include("content");
+
+        int scored = 0;
+        try (Stream<Draft> drafts = mongoTemplate.stream(unscored, Draft.class)) {
+            Iterator<Draft> iterator = drafts.iterator();
+            while (iterator.hasNext()) {
+                Draft draft = iterator.next();
+                if (draft.getContent() == null) {
+                    continue;
+                }
+                refreshReadability(draft);
+
+                Update update = new Update()
+                        .set("readability", draft.getReadability())
+                        .set("contentHash", draft.getContentHash());
+                scored += (int) mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(draft.getId()).and("contentHash").exists(false)),
+                        update, Draft.class).getModifiedCount();
+            }
+        }
+        if (scored > 0) {
+            log.info("Stored readability for {} drafts saved before it was tracked", scored);
+        }
+    }
+
+    /**
+     * Recomputes the draft's readability when its content no longer matches the stored hash.
+     * Returns true if the draft changed.
+     */
+    private boolean refreshReadability(Draft draft) {
+        String contentHash = ContentHasher.sha256(draft.getContent());
+        if (contentHash.equals(draft.getContentHash())) {
+            return false;
+        }
+
+        draft.setContentHash(contentHash);
+        try {
+            draft.setReadability(fleschKincaidService.analyzeText(draft.getContent()));
+        } catch (IllegalArgumentException e) {
+            // Content without any words has no readability score
+            draft.setReadability(null);
+        }
+        return true;
+    }
 }
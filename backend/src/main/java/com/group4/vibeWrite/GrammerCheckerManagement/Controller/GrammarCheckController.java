@@ -1,7 +1,10 @@
 package com.group4.vibeWrite.GrammerCheckerManagement.Controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarCheckRequest;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarCheckResponse;
+import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarHistoryPage;
 import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
 import com.group4.vibeWrite.GrammerCheckerManagement.Service.EnhancedGrammarCheckService;
 import com.group4.vibeWrite.GrammerCheckerManagement.Service.GrammarCheckService;
@@ -11,14 +14,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/grammar")
@@ -27,7 +35,10 @@ import java.util.Optional;
 @CrossOrigin(origins = "${frontend.url}")
 public class GrammarCheckController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final EnhancedGrammarCheckService grammarCheckService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/check")
     public ResponseEntity<GrammarCheckResponse> checkGrammar(
@@ -96,6 +107,54 @@ public class GrammarCheckController {
         }
     }
 
+    // Get one page of a user's history, newest first; pass nextCursor back to continue
+    @GetMapping("/history/user/{userId}/page")
+    public ResponseEntity<GrammarHistoryPage> getGrammarHistoryPage(
+            @PathVariable String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeDetails) {
+        try {
+            if (userId == null || userId.trim().isEmpty()) {
+                return ResponseEntity.badRequest().build();
+            }
+
+            GrammarHistoryPage page = grammarCheckService.getUserGrammarHistoryPage(userId, cursor, size, includeDetails);
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid grammar history page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error retrieving grammar history page for userId {}: ", userId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Export a user's full history as newline-delimited JSON, one entry per line
+    @GetMapping(value = "/history/user/{userId}/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportGrammarHistory(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "true") boolean includeDetails) {
+        if (userId == null || userId.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<GrammarCheckHistory> history = grammarCheckService.streamUserGrammarHistory(userId, includeDetails);
+                 SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                Iterator<GrammarCheckHistory> iterator = history.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(iterator.next());
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
     // Get a specific grammar check by record ID
     @GetMapping("/history/{id}")
     public ResponseEntity<GrammarCheckHistory> getGrammarCheckById(@PathVariable String id) {
@@ -176,14 +235,8 @@ public class GrammarCheckController {
         try {
             String userId = authentication.getName();
 
-            long totalChecks = grammarCheckService.getUserGrammarCheckCount(userId);
-            double averageScore = grammarCheckService.getUserAverageGrammarScore(userId);
-
-            Map<String, Object> stats = Map.of(
-                    "totalChecks", totalChecks,
-                    "averageScore", Math.round(averageScore * 100.0) / 100.0,
-                    "userId", userId
-            );
+            Map<String, Object> stats = new HashMap<>(grammarCheckService.getUserGrammarStats(userId));
+            stats.put("userId", userId);
 
             return ResponseEntity.ok(stats);
 
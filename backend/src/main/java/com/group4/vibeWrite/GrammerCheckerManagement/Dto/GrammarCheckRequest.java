@@ -15,8 +15,11 @@ public class GrammarCheckRequest {
     private String userId;
 
     @NotBlank(message = "Text cannot be empty")
-    @Size(max = 10000, message = "Text cannot exceed 10000 characters")
+    @Size(max = 200000, message = "Text cannot exceed 200000 characters")
     private String text;
 
     private String language = "en"; // Default to English
+
+    // Re-check only sentences that changed since they were last seen
+    private boolean incremental;
 }
\ No newline at end of file
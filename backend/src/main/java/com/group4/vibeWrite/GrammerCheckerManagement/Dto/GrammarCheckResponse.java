@@ -18,6 +18,7 @@ public class GrammarCheckResponse {
     private List<GrammarError> errors;
     private GrammarMetrics metrics;
     private LocalDateTime checkedAt;
+    private boolean partial; // true when a check stage timed out or failed and was skipped
 
     @Data
     @NoArgsConstructor
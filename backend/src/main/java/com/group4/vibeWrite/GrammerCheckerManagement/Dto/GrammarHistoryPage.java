@@ -0,0 +1,17 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Dto;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GrammarHistoryPage {
+    private List<GrammarCheckHistory> items;
+    private String nextCursor; // null when there are no more entries
+    private boolean hasMore;
+}
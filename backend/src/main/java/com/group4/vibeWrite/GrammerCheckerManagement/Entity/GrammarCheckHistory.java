@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "grammar_check_history")
+@CompoundIndex(name = "user_checked_at_id", def = "{ 'userId': 1, 'checkedAt': -1, '_id': -1 }")
 public class GrammarCheckHistory {
 
     @Id
@@ -28,6 +30,8 @@ public class GrammarCheckHistory {
     private List<ErrorDetail> errors;
     private Metrics metrics;
 
+    private boolean rolledUp; // counted in grammar_user_stats by the history writer
+
     @Indexed
     private LocalDateTime checkedAt;
     private LocalDateTime createdAt;
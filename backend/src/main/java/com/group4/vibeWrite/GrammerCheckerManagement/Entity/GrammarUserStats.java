@@ -0,0 +1,37 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Running totals of a user's grammar checks, kept up to date with $inc as history is written
+ * so the stats dashboard is a single point read instead of a scan over grammar_check_history.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "grammar_user_stats")
+public class GrammarUserStats {
+
+    public static final int RECENT_SCORES_SIZE = 10;
+
+    @Id
+    private String userId;
+
+    private long totalChecks;
+    private long scoreSum;
+    private long totalWords;
+    private double readabilitySum;
+    private Map<String, Long> errorTypeCounts;
+    private List<Integer> recentScores; // newest first, capped at RECENT_SCORES_SIZE
+    private LocalDateTime updatedAt;
+    // false until checks written before the rollup existed are folded in; absent on rollups seeded in full
+    private Boolean seeded;
+}
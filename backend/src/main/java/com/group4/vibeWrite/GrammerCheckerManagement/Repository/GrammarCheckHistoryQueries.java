@@ -0,0 +1,18 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Repository;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.HistoryCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keyset-paginated and streaming reads of grammar history, newest first.
+ * Without includeDetails the texts and error lists are left out of the projection.
+ */
+public interface GrammarCheckHistoryQueries {
+
+    List<GrammarCheckHistory> findHistoryPage(String userId, HistoryCursor after, int limit, boolean includeDetails);
+
+    Stream<GrammarCheckHistory> streamHistory(String userId, boolean includeDetails);
+}
@@ -0,0 +1,49 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Repository;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.HistoryCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class GrammarCheckHistoryQueriesImpl implements GrammarCheckHistoryQueries {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "checkedAt", "_id");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<GrammarCheckHistory> findHistoryPage(String userId, HistoryCursor after, int limit, boolean includeDetails) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (after != null) {
+            // Strictly after the cursor in (checkedAt desc, _id desc) order
+            criteria = criteria.orOperator(
+                    Criteria.where("checkedAt").lt(after.getCheckedAt()),
+                    Criteria.where("checkedAt").is(after.getCheckedAt()).and("_id").lt(after.getId())
+            );
+        }
+
+        Query query = Query.query(criteria).with(NEWEST_FIRST).limit(limit);
+        applyProjection(query, includeDetails);
+        return mongoTemplate.find(query, GrammarCheckHistory.class);
+    }
+
+    @Override
+    public Stream<GrammarCheckHistory> streamHistory(String userId, boolean includeDetails) {
+        Query query = Query.query(Criteria.where("userId").is(userId)).with(NEWEST_FIRST);
+        applyProjection(query, includeDetails);
+        return mongoTemplate.stream(query, GrammarCheckHistory.class);
+    }
+
+    private void applyProjection(Query query, boolean includeDetails) {
+        if (!includeDetails) {
+            query.fields().exclude("originalText", "correctedText", "errors");
+        }
+    }
+}
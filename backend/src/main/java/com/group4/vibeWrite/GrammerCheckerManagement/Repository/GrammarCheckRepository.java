@@ -4,6 +4,7 @@ package com.group4.vibeWrite.GrammerCheckerManagement.Repository;
 import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GrammarCheckRepository extends MongoRepository<GrammarCheckHistory, String> {
+public interface GrammarCheckRepository extends MongoRepository<GrammarCheckHistory, String>, GrammarCheckHistoryQueries {
 
     // Find all grammar checks by user ID
     List<GrammarCheckHistory> findByUserIdOrderByCheckedAtDesc(String userId);
@@ -36,9 +37,12 @@ public interface GrammarCheckRepository extends MongoRepository<GrammarCheckHist
     // Count total checks by user
     long countByUserId(String userId);
 
-    // Get average grammar score for a user
-    @Query("{ 'userId': ?0 }")
-    List<GrammarCheckHistory> findByUserIdForAverageCalculation(String userId);
+    // Get average grammar score for a user (computed in MongoDB, returns null when the user has no checks)
+    @Aggregation(pipeline = {
+            "{ $match: { 'userId': ?0 } }",
+            "{ $group: { _id: null, averageScore: { $avg: '$grammarScore' } } }"
+    })
+    Double averageGrammarScoreByUserId(String userId);
 
     // Find recent grammar checks (last 30 days)
     @Query("{ 'userId': ?0, 'checkedAt': { $gte: ?1 } }")
@@ -0,0 +1,9 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Repository;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarUserStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GrammarUserStatsRepository extends MongoRepository<GrammarUserStats, String> {
+}
@@ -1,61 +1,102 @@
 package com.group4.vibeWrite.GrammerCheckerManagement.Service;
 
 
+import com.group4.vibeWrite.Config.CacheConfig;
+import com.group4.vibeWrite.Config.GrammarServiceConfig;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarCheckResponse;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarCheckRequest;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarError;
+import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarHistoryPage;
 import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarUserStats;
 import com.group4.vibeWrite.GrammerCheckerManagement.Repository.GrammarCheckRepository;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.GrammarRule;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.GrammarRuleEngine;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.HistoryCursor;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.SentenceSegmenter;
+import com.group4.vibeWrite.Util.ContentHasher;
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TextScanner;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import opennlp.tools.util.Span;
 import org.apache.commons.text.similarity.LevenshteinDistance;
-import org.languagetool.JLanguageTool;
-import org.languagetool.language.AmericanEnglish;
-import org.languagetool.rules.CategoryId;
 import org.languagetool.rules.RuleMatch;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EnhancedGrammarCheckService {
 
+    private static final String RESULT_CACHE = "grammarResults";
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    private static final Pattern PASSIVE_VOICE_PATTERN = Pattern.compile(
+            "\\b(is|are|was|were|being|been)\\s+(\\w+ed|\\w+en)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ITS_PATTERN = Pattern.compile("\\bits\\s+[a-z]", Pattern.CASE_INSENSITIVE);
+    private static final Pattern YOUR_PATTERN = Pattern.compile("\\byour\\s+(welcome|going|coming)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DOUBLE_SPACE_PATTERN = Pattern.compile("\\s{2,}");
+
     private final GrammarCheckRepository grammarCheckRepository;
+    private final GrammarHistoryWriter grammarHistoryWriter;
+    private final GrammarStatsRollupService grammarStatsRollupService;
+    private final LanguageToolPool languageToolPool;
+    private final GrammarServiceConfig.GrammarSettings grammarSettings;
+    private final CacheManager cacheManager;
+
+    private final SentenceSegmenter sentenceSegmenter;
+    @Qualifier("grammarTaskExecutor")
+    private final Executor grammarTaskExecutor;
+    @Qualifier("languageToolTaskExecutor")
+    private final Executor languageToolTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private Cache resultCache;
+    private Cache sentenceCache;
 
-    private JLanguageTool languageTool;
     private final LevenshteinDistance levenshteinDistance = new LevenshteinDistance();
 
-    // Advanced grammar patterns
-    private final Map<String, String> advancedPatterns = new HashMap<>();
+    // Advanced grammar patterns, compiled once at startup
+    private GrammarRuleEngine advancedRules;
     private final Set<String> commonWords = new HashSet<>();
-    private final Map<String, String> styleGuideRules = new HashMap<>();
+    private GrammarRuleEngine styleGuideRules;
+    private GrammarRuleEngine quickSpellingRules;
 
     @PostConstruct
     public void init() {
         try {
-            // Initialize LanguageTool
-            languageTool = new JLanguageTool(new AmericanEnglish());
-
-            // Enable specific rule categories
-            languageTool.enableRuleCategory(new CategoryId("GRAMMAR"));
-            languageTool.enableRuleCategory(new CategoryId("PUNCTUATION"));
-            languageTool.enableRuleCategory(new CategoryId("TYPOGRAPHY"));
-            languageTool.enableRuleCategory(new CategoryId("STYLE"));
-
             initializeAdvancedPatterns();
             initializeCommonWords();
             initializeStyleGuideRules();
+            initializeQuickSpellingRules();
+
+            if (grammarSettings.isEnableResultCache()) {
+                resultCache = cacheManager.getCache(RESULT_CACHE);
+            }
+            sentenceCache = cacheManager.getCache(CacheConfig.GRAMMAR_SENTENCE_CACHE);
 
             log.info("Enhanced Grammar Check Service initialized successfully");
 
@@ -65,28 +106,33 @@ public class EnhancedGrammarCheckService {
         }
     }
 
-
-    @PreDestroy
-    public void cleanup() {
-        if (languageTool != null) {
-            languageTool = null;
-        }
-    }
-
     private void initializeAdvancedPatterns() {
+        List<GrammarRule> rules = new ArrayList<>();
+
         // Subject-verb agreement patterns
-        advancedPatterns.put("\\b(he|she|it)\\s+(are|were)\\b", "Subject-verb disagreement");
-        advancedPatterns.put("\\b(they|we|you)\\s+(is|was)\\b", "Subject-verb disagreement");
+        rules.add(grammarRule("\\b(he|she|it)\\s+(are|were)\\b", "Subject-verb disagreement"));
+        rules.add(grammarRule("\\b(they|we|you)\\s+(is|was)\\b", "Subject-verb disagreement"));
 
         // Common confusion patterns
-        advancedPatterns.put("\\bthen\\s+(\\w+ing|\\w+ed)\\b", "Consider 'than' for comparisons");
-        advancedPatterns.put("\\baffect\\s+on\\b", "Use 'effect' as noun, 'affect' as verb");
-        advancedPatterns.put("\\bcould\\s+care\\s+less\\b", "Did you mean 'couldn't care less'?");
+        rules.add(grammarRule("\\bthen\\s+(\\w+ing|\\w+ed)\\b", "Consider 'than' for comparisons"));
+        rules.add(grammarRule("\\baffect\\s+on\\b", "Use 'effect' as noun, 'affect' as verb"));
+        rules.add(grammarRule("\\bcould\\s+care\\s+less\\b", "Did you mean 'couldn't care less'?"));
 
         // Redundancy patterns
-        advancedPatterns.put("\\b(very|really|extremely)\\s+(very|really|extremely)\\b", "Avoid double intensifiers");
-        advancedPatterns.put("\\b(more|most)\\s+\\w+er\\b", "Avoid double comparatives");
-        advancedPatterns.put("\\b(more|most)\\s+\\w+est\\b", "Avoid double superlatives");
+        rules.add(grammarRule("\\b(very|really|extremely)\\s+(very|really|extremely)\\b", "Avoid double intensifiers"));
+        rules.add(grammarRule("\\b(more|most)\\s+\\w+er\\b", "Avoid double comparatives"));
+        rules.add(grammarRule("\\b(more|most)\\s+\\w+est\\b", "Avoid double superlatives"));
+
+        advancedRules = new GrammarRuleEngine(rules, Pattern.CASE_INSENSITIVE);
+    }
+
+    private GrammarRule grammarRule(String regex, String description) {
+        // No automatic suggestion for complex patterns
+        return new GrammarRule(regex, "GRAMMAR", description, "", "HIGH");
+    }
+
+    private GrammarRule styleRule(String regex, String description) {
+        return new GrammarRule(regex, "STYLE", description, "", "LOW");
     }
 
     private void initializeCommonWords() {
@@ -106,12 +152,33 @@ public class EnhancedGrammarCheckService {
     }
 
     private void initializeStyleGuideRules() {
+        List<GrammarRule> rules = new ArrayList<>();
+
         // AP Style and common writing guidelines
-        styleGuideRules.put("\\bover\\s+\\d+\\b", "AP Style: Use 'more than' with numbers");
-        styleGuideRules.put("\\b(alot|alright)\\b", "Use 'a lot' and 'all right'");
-        styleGuideRules.put("\\bthat\\s+which\\b", "Use 'that' for restrictive clauses");
-        styleGuideRules.put("\\bwhich\\s+[^,]", "Use comma before 'which' in non-restrictive clauses");
-        styleGuideRules.put("\\bwho's\\s+\\w+\\b", "Use 'whose' for possession");
+        rules.add(styleRule("\\bover\\s+\\d+\\b", "AP Style: Use 'more than' with numbers"));
+        rules.add(styleRule("\\b(alot|alright)\\b", "Use 'a lot' and 'all right'"));
+        rules.add(styleRule("\\bthat\\s+which\\b", "Use 'that' for restrictive clauses"));
+        rules.add(styleRule("\\bwhich\\s+[^,]", "Use comma before 'which' in non-restrictive clauses"));
+        rules.add(styleRule("\\bwho's\\s+\\w+\\b", "Use 'whose' for possession"));
+
+        styleGuideRules = new GrammarRuleEngine(rules, Pattern.CASE_INSENSITIVE);
+    }
+
+    private void initializeQuickSpellingRules() {
+        Map<String, String> quickSpellCheck = Map.of(
+                "teh", "the",
+                "adn", "and",
+                "recieve", "receive",
+                "seperate", "separate",
+                "definately", "definitely"
+        );
+
+        List<GrammarRule> rules = quickSpellCheck.entrySet().stream()
+                .map(correction -> new GrammarRule("\\b" + correction.getKey() + "\\b", "SPELLING",
+                        "Spelling correction", correction.getValue(), "MEDIUM"))
+                .collect(Collectors.toList());
+
+        quickSpellingRules = new GrammarRuleEngine(rules, Pattern.CASE_INSENSITIVE);
     }
 
     public GrammarCheckResponse checkGrammar(GrammarCheckRequest request, String userId) {
@@ -121,88 +188,259 @@ public class EnhancedGrammarCheckService {
             if (originalText.isEmpty()) {
                 throw new IllegalArgumentException("Text cannot be empty");
             }
+            if (originalText.length() > grammarSettings.getMaxTextLength()) {
+                throw new IllegalArgumentException("Text cannot exceed " + grammarSettings.getMaxTextLength() + " characters");
+            }
 
-            List<GrammarError> errors = new ArrayList<>();
-
-            // Use LanguageTool for comprehensive grammar checking
-            errors.addAll(checkWithLanguageTool(originalText));
-
-            // Add custom pattern checks
-            errors.addAll(checkCustomPatterns(originalText));
-
-            // Check style guide compliance
-            errors.addAll(checkStyleGuide(originalText));
-
-            // Check readability issues
-            errors.addAll(checkReadability(originalText));
-
-            // Remove duplicate errors and sort by position
-            errors = deduplicateAndSortErrors(errors);
-
-            // Apply corrections
-            String correctedText = applyCorrections(originalText, errors);
-
-            // Calculate comprehensive metrics
-            GrammarCheckResponse.GrammarMetrics metrics = calculateAdvancedMetrics(originalText, errors);
-
-            // Calculate sophisticated grammar score
-            int grammarScore = calculateAdvancedGrammarScore(originalText, errors, metrics);
-
-            // Create response
-            GrammarCheckResponse response = new GrammarCheckResponse();
-            response.setOriginalText(originalText);
-            response.setCorrectedText(correctedText);
-            response.setGrammarScore(grammarScore);
-            response.setTotalErrors(errors.size());
-            response.setErrors(errors);
-            response.setMetrics(metrics);
+            // Reuse an earlier result for identical text and rule settings
+            String cacheKey = resultCacheKey(originalText, request.isIncremental());
+            GrammarCheckResponse cached = resultCache != null
+                    ? resultCache.get(cacheKey, GrammarCheckResponse.class)
+                    : null;
+
+            GrammarCheckResponse response;
+            if (cached != null) {
+                response = copyOf(cached);
+            } else {
+                response = analyze(originalText, request.isIncremental());
+                // Partial results are served but not cached, so the next check gets a full run
+                if (resultCache != null && !response.isPartial()) {
+                    resultCache.put(cacheKey, copyOf(response));
+                }
+            }
             response.setCheckedAt(LocalDateTime.now());
 
             // ✅ Save to history if userId provided in body
-            if (userId != null && !userId.trim().isEmpty()) {
+            if (grammarSettings.isSaveHistory() && userId != null && !userId.trim().isEmpty()) {
                 saveToHistory(response, userId);
             }
 
-            log.info("Grammar check completed: Score={}, Errors={}, Text length={}",
-                    grammarScore, errors.size(), originalText.length());
+            log.info("Grammar check completed: Score={}, Errors={}, Text length={}, Cached={}",
+                    response.getGrammarScore(), response.getTotalErrors(), originalText.length(), cached != null);
 
             return response;
 
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error in enhanced grammar checking: ", e);
             throw new RuntimeException("Failed to check grammar", e);
         }
     }
 
+    private GrammarCheckResponse analyze(String originalText, boolean incremental) {
+        // Words and sentences are found once and shared by the readability stage, metrics and score
+        TextScan scan = TextScanner.scan(originalText);
+
+        // The stages are independent, so run them side by side on the grammar executor
+
+        // Use LanguageTool for comprehensive grammar checking
+        CompletableFuture<List<GrammarError>> languageToolStage =
+                runStage("languageTool", () -> checkWithLanguageTool(originalText, incremental));
+
+        // Add custom pattern checks
+        CompletableFuture<List<GrammarError>> customPatternStage = grammarSettings.isEnableAdvancedChecking()
+                ? runStage("customPatterns", () -> checkCustomPatterns(originalText))
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        // Check style guide compliance
+        CompletableFuture<List<GrammarError>> styleGuideStage = grammarSettings.isEnableStyleChecking()
+                ? runStage("styleGuide", () -> checkStyleGuide(originalText))
+                : CompletableFuture.completedFuture(Collections.emptyList());
+
+        // Check readability issues
+        CompletableFuture<List<GrammarError>> readabilityStage =
+                runStage("readability", () -> checkReadability(originalText, scan));
 
-    private List<GrammarError> checkWithLanguageTool(String text) {
         List<GrammarError> errors = new ArrayList<>();
+        boolean partial = false;
+        for (CompletableFuture<List<GrammarError>> stage :
+                List.of(languageToolStage, customPatternStage, styleGuideStage, readabilityStage)) {
+            List<GrammarError> stageErrors = stage.join();
+            if (stageErrors == null) {
+                partial = true;
+            } else {
+                errors.addAll(stageErrors);
+            }
+        }
+
+        // Remove duplicate errors and sort by position
+        errors = deduplicateAndSortErrors(errors);
+
+        // Apply corrections
+        String correctedText = applyCorrections(originalText, errors);
+
+        // Calculate comprehensive metrics
+        GrammarCheckResponse.GrammarMetrics metrics = calculateAdvancedMetrics(scan, errors);
+
+        // Calculate sophisticated grammar score
+        int grammarScore = calculateAdvancedGrammarScore(scan, errors, metrics);
 
+        // Create response
+        GrammarCheckResponse response = new GrammarCheckResponse();
+        response.setOriginalText(originalText);
+        response.setCorrectedText(correctedText);
+        response.setGrammarScore(grammarScore);
+        response.setTotalErrors(errors.size());
+        response.setErrors(errors);
+        response.setMetrics(metrics);
+        response.setPartial(partial);
+        return response;
+    }
+
+    /**
+     * Runs one check stage on the grammar executor. A stage that fails or exceeds the
+     * configured timeout yields null, so the request continues with the other stages' results.
+     */
+    private CompletableFuture<List<GrammarError>> runStage(String stageName, Supplier<List<GrammarError>> stage) {
+        return CompletableFuture.supplyAsync(stage, grammarTaskExecutor)
+                .orTimeout(grammarSettings.getStageTimeoutMs(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        log.warn("Grammar check stage '{}' timed out after {} ms, continuing without it",
+                                stageName, grammarSettings.getStageTimeoutMs());
+                    } else {
+                        log.warn("Grammar check stage '{}' failed, continuing without it: ", stageName, cause);
+                    }
+                    meterRegistry.counter("vibewrite.grammar.stage.skipped", "stage", stageName).increment();
+                    return null;
+                });
+    }
+
+    private String resultCacheKey(String text, boolean incremental) {
+        // Results depend on which optional rule sets ran, so they are part of the key
+        String ruleCategories = "advanced=" + grammarSettings.isEnableAdvancedChecking()
+                + ",style=" + grammarSettings.isEnableStyleChecking()
+                + ",incremental=" + incremental;
+        return ContentHasher.sha256(text, ruleCategories);
+    }
+
+    private GrammarCheckResponse copyOf(GrammarCheckResponse source) {
+        // Cached entries are shared between requests, so callers only ever get a fresh shell
+        GrammarCheckResponse copy = new GrammarCheckResponse();
+        copy.setOriginalText(source.getOriginalText());
+        copy.setCorrectedText(source.getCorrectedText());
+        copy.setGrammarScore(source.getGrammarScore());
+        copy.setTotalErrors(source.getTotalErrors());
+        copy.setErrors(List.copyOf(source.getErrors()));
+        copy.setMetrics(source.getMetrics());
+        copy.setCheckedAt(source.getCheckedAt());
+        copy.setPartial(source.isPartial());
+        return copy;
+    }
+
+    private List<GrammarError> checkWithLanguageTool(String text, boolean incremental) {
         try {
-            List<RuleMatch> matches = languageTool.check(text);
-
-            for (RuleMatch match : matches) {
-                String errorType = categorizeLanguageToolError(match);
-                String severity = determineSeverity(match);
-
-                List<String> suggestions = match.getSuggestedReplacements();
-                String suggestedText = suggestions.isEmpty() ? "" : suggestions.get(0);
-
-                GrammarError error = new GrammarError(
-                        match.getFromPos(),
-                        match.getToPos(),
-                        errorType,
-                        text.substring(match.getFromPos(), match.getToPos()),
-                        suggestedText,
-                        match.getMessage(),
-                        severity
-                );
-
-                errors.add(error);
+            if (incremental) {
+                return checkSentencesIncrementally(text);
             }
+            if (text.length() > grammarSettings.getChunkingThreshold()) {
+                return checkInChunks(text);
+            }
+            return toGrammarErrors(languageToolPool.check(text), text, 0);
 
         } catch (IOException e) {
-            log.warn("LanguageTool check failed, falling back to basic checks: ", e);
+            // Surfaces as a skipped stage, so the response falls back to the other checks
+            throw new UncheckedIOException("LanguageTool check failed", e);
+        }
+    }
+
+    /**
+     * Splits a long document on paragraph/sentence boundaries and checks the chunks in
+     * parallel across the LanguageTool pool, shifting matches back into document offsets.
+     * Chunks share the stage timeout; once one fails or times out the rest are cancelled, so
+     * queued chunks never start and take a LanguageTool instance for an abandoned request.
+     */
+    private List<GrammarError> checkInChunks(String text) throws IOException {
+        List<Span> chunks = sentenceSegmenter.chunkSpans(text, grammarSettings.getChunkSize());
+        List<CompletableFuture<List<GrammarError>>> chunkChecks = new ArrayList<>(chunks.size());
+
+        for (Span chunk : chunks) {
+            String chunkText = text.substring(chunk.getStart(), chunk.getEnd());
+            chunkChecks.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return toGrammarErrors(languageToolPool.check(chunkText), chunkText, chunk.getStart());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, languageToolTaskExecutor).orTimeout(grammarSettings.getStageTimeoutMs(), TimeUnit.MILLISECONDS));
+        }
+
+        List<GrammarError> errors = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<GrammarError>> chunkCheck : chunkChecks) {
+                errors.addAll(chunkCheck.join());
+            }
+        } catch (CompletionException e) {
+            chunkChecks.forEach(chunkCheck -> chunkCheck.cancel(true));
+            if (e.getCause() instanceof UncheckedIOException ioException) {
+                throw ioException.getCause();
+            }
+            throw e;
+        }
+
+        log.debug("Checked {} characters in {} LanguageTool chunks", text.length(), chunks.size());
+        return errors;
+    }
+
+    /**
+     * Checks each sentence on its own and memoizes the result by sentence hash, so after a
+     * small edit only the changed sentences go through LanguageTool. Cached errors hold
+     * sentence-relative offsets and are shifted back into document coordinates here.
+     * Rules that look across sentence boundaries are not applied in this mode.
+     */
+    private List<GrammarError> checkSentencesIncrementally(String text) throws IOException {
+        List<GrammarError> errors = new ArrayList<>();
+
+        for (Span span : sentenceSegmenter.sentenceSpans(text)) {
+            String sentence = text.substring(span.getStart(), span.getEnd());
+            String sentenceKey = ContentHasher.sha256(sentence);
+
+            @SuppressWarnings("unchecked")
+            List<GrammarError> sentenceErrors = sentenceCache.get(sentenceKey, List.class);
+            if (sentenceErrors == null) {
+                sentenceErrors = List.copyOf(toGrammarErrors(languageToolPool.check(sentence), sentence, 0));
+                sentenceCache.put(sentenceKey, sentenceErrors);
+            }
+
+            for (GrammarError error : sentenceErrors) {
+                errors.add(new GrammarError(
+                        error.getStartPosition() + span.getStart(),
+                        error.getEndPosition() + span.getStart(),
+                        error.getErrorType(),
+                        error.getOriginalText(),
+                        error.getSuggestedText(),
+                        error.getDescription(),
+                        error.getSeverity()
+                ));
+            }
+        }
+
+        return errors;
+    }
+
+    private List<GrammarError> toGrammarErrors(List<RuleMatch> matches, String text, int offset) {
+        List<GrammarError> errors = new ArrayList<>();
+
+        for (RuleMatch match : matches) {
+            String errorType = categorizeLanguageToolError(match);
+            String severity = determineSeverity(match);
+
+            List<String> suggestions = match.getSuggestedReplacements();
+            String suggestedText = suggestions.isEmpty() ? "" : suggestions.get(0);
+
+            GrammarError error = new GrammarError(
+                    match.getFromPos() + offset,
+                    match.getToPos() + offset,
+                    errorType,
+                    text.substring(match.getFromPos(), match.getToPos()),
+                    suggestedText,
+                    match.getMessage(),
+                    severity
+            );
+
+            errors.add(error);
         }
 
         return errors;
@@ -245,84 +483,36 @@ public class EnhancedGrammarCheckService {
     }
 
     private List<GrammarError> checkCustomPatterns(String text) {
-        List<GrammarError> errors = new ArrayList<>();
-
-        for (Map.Entry<String, String> pattern : advancedPatterns.entrySet()) {
-            Pattern regex = Pattern.compile(pattern.getKey(), Pattern.CASE_INSENSITIVE);
-            Matcher matcher = regex.matcher(text);
-
-            while (matcher.find()) {
-                errors.add(new GrammarError(
-                        matcher.start(),
-                        matcher.end(),
-                        "GRAMMAR",
-                        matcher.group(),
-                        "", // No automatic suggestion for complex patterns
-                        pattern.getValue(),
-                        "HIGH"
-                ));
-            }
-        }
-
-        return errors;
+        return advancedRules.scan(text);
     }
 
     private List<GrammarError> checkStyleGuide(String text) {
-        List<GrammarError> errors = new ArrayList<>();
+        return styleGuideRules.scan(text);
+    }
 
-        for (Map.Entry<String, String> rule : styleGuideRules.entrySet()) {
-            Pattern pattern = Pattern.compile(rule.getKey(), Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
+    private List<GrammarError> checkReadability(String text, TextScan scan) {
+        List<GrammarError> errors = new ArrayList<>();
 
-            while (matcher.find()) {
+        // Check for overly long sentences
+        for (int i = 0; i < scan.getSentenceCount(); i++) {
+            int wordCount = scan.sentenceWordCount(i);
+            if (wordCount > 25) {
+                int start = scan.sentenceStart(i);
+                int end = scan.sentenceEnd(i);
                 errors.add(new GrammarError(
-                        matcher.start(),
-                        matcher.end(),
+                        start,
+                        end,
                         "STYLE",
-                        matcher.group(),
+                        text.substring(start, end),
                         "",
-                        rule.getValue(),
+                        "Consider breaking this long sentence (contains " + wordCount + " words)",
                         "LOW"
                 ));
             }
         }
 
-        return errors;
-    }
-
-    private List<GrammarError> checkReadability(String text) {
-        List<GrammarError> errors = new ArrayList<>();
-
-        // Check for overly long sentences
-        String[] sentences = text.split("[.!?]+");
-        int position = 0;
-
-        for (String sentence : sentences) {
-            sentence = sentence.trim();
-            if (!sentence.isEmpty()) {
-                String[] words = sentence.split("\\s+");
-
-                if (words.length > 25) {
-                    int start = text.indexOf(sentence, position);
-                    errors.add(new GrammarError(
-                            start,
-                            start + sentence.length(),
-                            "STYLE",
-                            sentence,
-                            "",
-                            "Consider breaking this long sentence (contains " + words.length + " words)",
-                            "LOW"
-                    ));
-                }
-
-                position = text.indexOf(sentence, position) + sentence.length();
-            }
-        }
-
         // Check for passive voice overuse
-        Pattern passivePattern = Pattern.compile("\\b(is|are|was|were|being|been)\\s+(\\w+ed|\\w+en)\\b",
-                Pattern.CASE_INSENSITIVE);
-        Matcher matcher = passivePattern.matcher(text);
+        Matcher matcher = PASSIVE_VOICE_PATTERN.matcher(text);
 
         while (matcher.find()) {
             errors.add(new GrammarError(
@@ -359,42 +549,41 @@ public class EnhancedGrammarCheckService {
     }
 
     private String applyCorrections(String originalText, List<GrammarError> errors) {
-        String corrected = originalText;
-
-        // Apply corrections from end to beginning to avoid position shifts
+        // Build the corrected text in one forward pass; rebuilding the whole string per
+        // correction gets expensive on long documents
         List<GrammarError> applicableErrors = errors.stream()
                 .filter(error -> error.getSuggestedText() != null &&
                         !error.getSuggestedText().isEmpty() &&
                         error.getStartPosition() >= 0 &&
+                        error.getStartPosition() <= error.getEndPosition() &&
                         error.getEndPosition() <= originalText.length())
-                .sorted((a, b) -> Integer.compare(b.getStartPosition(), a.getStartPosition()))
+                .sorted(Comparator.comparingInt(GrammarError::getStartPosition))
                 .collect(Collectors.toList());
 
+        StringBuilder corrected = new StringBuilder(originalText.length());
+        int copiedUpTo = 0;
+
         for (GrammarError error : applicableErrors) {
-            try {
-                if (error.getEndPosition() <= corrected.length()) {
-                    corrected = corrected.substring(0, error.getStartPosition()) +
-                            error.getSuggestedText() +
-                            corrected.substring(error.getEndPosition());
-                }
-            } catch (Exception e) {
-                log.warn("Error applying correction at position {}-{}: {}",
-                        error.getStartPosition(), error.getEndPosition(), e.getMessage());
+            if (error.getStartPosition() < copiedUpTo) {
+                log.debug("Skipping overlapping correction at position {}-{}",
+                        error.getStartPosition(), error.getEndPosition());
+                continue;
             }
+            corrected.append(originalText, copiedUpTo, error.getStartPosition())
+                    .append(error.getSuggestedText());
+            copiedUpTo = error.getEndPosition();
         }
 
-        return corrected;
+        corrected.append(originalText, copiedUpTo, originalText.length());
+        return corrected.toString();
     }
 
-    private GrammarCheckResponse.GrammarMetrics calculateAdvancedMetrics(String text, List<GrammarError> errors) {
+    private GrammarCheckResponse.GrammarMetrics calculateAdvancedMetrics(TextScan scan, List<GrammarError> errors) {
         GrammarCheckResponse.GrammarMetrics metrics = new GrammarCheckResponse.GrammarMetrics();
 
         // Basic counts
-        String[] words = text.trim().split("\\s+");
-        String[] sentences = text.split("[.!?]+");
-
-        metrics.setWordCount(words.length);
-        metrics.setSentenceCount(Math.max(1, sentences.length));
+        metrics.setWordCount(scan.getWordCount());
+        metrics.setSentenceCount(Math.max(1, scan.getSentenceCount()));
 
         // Error categorization
         metrics.setSpellingErrors((int) errors.stream().filter(e -> "SPELLING".equals(e.getErrorType())).count());
@@ -404,7 +593,9 @@ public class EnhancedGrammarCheckService {
 
         // Advanced readability calculation (Flesch-Kincaid)
         double avgWordsPerSentence = (double) metrics.getWordCount() / metrics.getSentenceCount();
-        double avgSyllablesPerWord = calculateAverageSyllables(words);
+        double avgSyllablesPerWord = scan.getWordCount() > 0
+                ? (double) scan.getSyllableCount() / scan.getWordCount()
+                : 1.0;
 
         // Flesch Reading Ease Score
         double fleschScore = 206.835 - (1.015 * avgWordsPerSentence) - (84.6 * avgSyllablesPerWord);
@@ -413,53 +604,7 @@ public class EnhancedGrammarCheckService {
         return metrics;
     }
 
-    private double calculateAverageSyllables(String[] words) {
-        int totalSyllables = 0;
-        int validWords = 0;
-
-        for (String word : words) {
-            String cleanWord = word.toLowerCase().replaceAll("[^a-z]", "");
-            if (cleanWord.length() > 0) {
-                totalSyllables += countSyllables(cleanWord);
-                validWords++;
-            }
-        }
-
-        return validWords > 0 ? (double) totalSyllables / validWords : 1.0;
-    }
-
-    private int countSyllables(String word) {
-        if (word.length() == 0) return 0;
-
-        word = word.toLowerCase();
-        int syllables = 0;
-        boolean previousWasVowel = false;
-
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            boolean isVowel = "aeiouy".indexOf(c) != -1;
-
-            if (isVowel && !previousWasVowel) {
-                syllables++;
-            }
-            previousWasVowel = isVowel;
-        }
-
-        // Handle silent 'e'
-        if (word.endsWith("e") && syllables > 1) {
-            syllables--;
-        }
-
-        // Handle 'le' endings
-        if (word.endsWith("le") && word.length() > 2 &&
-                "bcdfghjklmnpqrstvwxz".indexOf(word.charAt(word.length() - 3)) != -1) {
-            syllables++;
-        }
-
-        return Math.max(1, syllables);
-    }
-
-    private int calculateAdvancedGrammarScore(String text, List<GrammarError> errors,
+    private int calculateAdvancedGrammarScore(TextScan scan, List<GrammarError> errors,
                                               GrammarCheckResponse.GrammarMetrics metrics) {
 
         int baseScore = 100;
@@ -508,7 +653,10 @@ public class EnhancedGrammarCheckService {
         }
 
         // Vocabulary diversity bonus
-        Set<String> uniqueWords = new HashSet<>(Arrays.asList(text.toLowerCase().split("\\W+")));
+        Set<String> uniqueWords = new HashSet<>();
+        for (int i = 0; i < scan.getWordCount(); i++) {
+            uniqueWords.add(scan.token(i));
+        }
         double vocabularyRatio = (double) uniqueWords.size() / wordCount;
         if (vocabularyRatio > 0.7) baseScore += 3;  // High vocabulary diversity
         else if (vocabularyRatio < 0.4) baseScore -= 2; // Low vocabulary diversity
@@ -542,7 +690,7 @@ public class EnhancedGrammarCheckService {
                     errorDetails, historyMetrics
             );
 
-            grammarCheckRepository.save(history);
+            grammarHistoryWriter.enqueue(history);
 
         } catch (Exception e) {
             log.error("Error saving grammar check history: ", e);
@@ -559,26 +707,50 @@ public class EnhancedGrammarCheckService {
         return grammarCheckRepository.findByUserIdOrderByCheckedAtDesc(userId, pageable);
     }
 
+    public GrammarHistoryPage getUserGrammarHistoryPage(String userId, String cursor, int size, boolean includeDetails) {
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.decode(cursor) : null;
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+
+        // Fetch one extra entry to know whether another page exists
+        List<GrammarCheckHistory> items = grammarCheckRepository.findHistoryPage(userId, after, limit + 1, includeDetails);
+        boolean hasMore = items.size() > limit;
+        if (hasMore) {
+            items = new ArrayList<>(items.subList(0, limit));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            GrammarCheckHistory last = items.get(items.size() - 1);
+            nextCursor = new HistoryCursor(last.getCheckedAt(), last.getId()).encode();
+        }
+        return new GrammarHistoryPage(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Streams a user's whole history, newest first. The caller must close the stream.
+     */
+    public Stream<GrammarCheckHistory> streamUserGrammarHistory(String userId, boolean includeDetails) {
+        return grammarCheckRepository.streamHistory(userId, includeDetails);
+    }
+
     public Optional<GrammarCheckHistory> getGrammarCheckById(String id) {
         return grammarCheckRepository.findById(id);
     }
 
     public long getUserGrammarCheckCount(String userId) {
-        return grammarCheckRepository.countByUserId(userId);
+        return grammarStatsRollupService.getStats(userId).getTotalChecks();
     }
 
     public double getUserAverageGrammarScore(String userId) {
-        List<GrammarCheckHistory> history = grammarCheckRepository.findByUserIdForAverageCalculation(userId);
-        return history.stream()
-                .mapToInt(GrammarCheckHistory::getGrammarScore)
-                .average()
-                .orElse(0.0);
+        GrammarUserStats stats = grammarStatsRollupService.getStats(userId);
+        return stats.getTotalChecks() > 0 ? (double) stats.getScoreSum() / stats.getTotalChecks() : 0.0;
     }
 
     public Map<String, Object> getUserGrammarStats(String userId) {
-        List<GrammarCheckHistory> history = grammarCheckRepository.findByUserIdOrderByCheckedAtDesc(userId);
+        // Served from the per-user rollup, so this is a single document read
+        GrammarUserStats stats = grammarStatsRollupService.getStats(userId);
 
-        if (history.isEmpty()) {
+        if (stats.getTotalChecks() == 0) {
             return Map.of(
                     "totalChecks", 0L,
                     "averageScore", 0.0,
@@ -587,20 +759,8 @@ public class EnhancedGrammarCheckService {
             );
         }
 
-        long totalChecks = history.size();
-        double averageScore = history.stream()
-                .mapToInt(GrammarCheckHistory::getGrammarScore)
-                .average()
-                .orElse(0.0);
-
         // Calculate most common error types
-        Map<String, Long> errorTypeCounts = history.stream()
-                .flatMap(h -> h.getErrors().stream())
-                .collect(Collectors.groupingBy(
-                        GrammarCheckHistory.ErrorDetail::getErrorType,
-                        Collectors.counting()
-                ));
-
+        Map<String, Long> errorTypeCounts = stats.getErrorTypeCounts() != null ? stats.getErrorTypeCounts() : Map.of();
         List<Map<String, Object>> mostCommonErrors = errorTypeCounts.entrySet().stream()
                 .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
                 .limit(3)
@@ -611,36 +771,34 @@ public class EnhancedGrammarCheckService {
                 .collect(Collectors.toList());
 
         // Calculate improvement trend (last 5 vs previous 5)
-        String improvementTrend = calculateImprovementTrend(history);
+        List<Integer> recentScores = stats.getRecentScores() != null ? stats.getRecentScores() : List.of();
+        String improvementTrend = calculateImprovementTrend(recentScores);
 
+        double averageScore = (double) stats.getScoreSum() / stats.getTotalChecks();
         return Map.of(
-                "totalChecks", totalChecks,
+                "totalChecks", stats.getTotalChecks(),
                 "averageScore", Math.round(averageScore * 100.0) / 100.0,
                 "mostCommonErrors", mostCommonErrors,
                 "improvementTrend", improvementTrend,
-                "totalWords", history.stream().mapToInt(h -> h.getMetrics().getWordCount()).sum(),
-                "averageReadability", history.stream()
-                        .mapToDouble(h -> h.getMetrics().getReadabilityScore())
-                        .average()
-                        .orElse(0.0)
+                "totalWords", stats.getTotalWords(),
+                "averageReadability", stats.getReadabilitySum() / stats.getTotalChecks()
         );
     }
 
-    private String calculateImprovementTrend(List<GrammarCheckHistory> history) {
-        if (history.size() < 6) {
+    private String calculateImprovementTrend(List<Integer> recentScores) {
+        // Scores are ordered newest first
+        if (recentScores.size() < 6) {
             return "insufficient_data";
         }
 
         // Get last 5 and previous 5 scores
-        List<Integer> recent = history.stream()
+        List<Integer> recent = recentScores.stream()
                 .limit(5)
-                .map(GrammarCheckHistory::getGrammarScore)
                 .collect(Collectors.toList());
 
-        List<Integer> previous = history.stream()
+        List<Integer> previous = recentScores.stream()
                 .skip(5)
                 .limit(5)
-                .map(GrammarCheckHistory::getGrammarScore)
                 .collect(Collectors.toList());
 
         if (previous.size() < 5) {
@@ -682,37 +840,14 @@ public class EnhancedGrammarCheckService {
     }
 
     private List<GrammarError> checkBasicSpelling(String text) {
-        List<GrammarError> errors = new ArrayList<>();
-        Map<String, String> quickSpellCheck = Map.of(
-                "teh", "the",
-                "adn", "and",
-                "recieve", "receive",
-                "seperate", "separate",
-                "definately", "definitely"
-        );
-
-        for (Map.Entry<String, String> correction : quickSpellCheck.entrySet()) {
-            Pattern pattern = Pattern.compile("\\b" + correction.getKey() + "\\b", Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
-
-            while (matcher.find()) {
-                errors.add(new GrammarError(
-                        matcher.start(), matcher.end(), "SPELLING",
-                        matcher.group(), correction.getValue(),
-                        "Spelling correction", "MEDIUM"
-                ));
-            }
-        }
-
-        return errors;
+        return quickSpellingRules.scan(text);
     }
 
     private List<GrammarError> checkCommonGrammarIssues(String text) {
         List<GrammarError> errors = new ArrayList<>();
 
         // Its vs It's
-        Pattern itsPattern = Pattern.compile("\\bits\\s+[a-z]", Pattern.CASE_INSENSITIVE);
-        Matcher itsMatcher = itsPattern.matcher(text);
+        Matcher itsMatcher = ITS_PATTERN.matcher(text);
         while (itsMatcher.find()) {
             if (!text.substring(itsMatcher.start(), itsMatcher.end()).contains("'")) {
                 errors.add(new GrammarError(
@@ -723,8 +858,7 @@ public class EnhancedGrammarCheckService {
         }
 
         // Your vs You're
-        Pattern yourPattern = Pattern.compile("\\byour\\s+(welcome|going|coming)", Pattern.CASE_INSENSITIVE);
-        Matcher yourMatcher = yourPattern.matcher(text);
+        Matcher yourMatcher = YOUR_PATTERN.matcher(text);
         while (yourMatcher.find()) {
             errors.add(new GrammarError(
                     yourMatcher.start(), yourMatcher.start() + 4, "GRAMMAR",
@@ -739,8 +873,7 @@ public class EnhancedGrammarCheckService {
         List<GrammarError> errors = new ArrayList<>();
 
         // Double spaces
-        Pattern doubleSpace = Pattern.compile("\\s{2,}");
-        Matcher spaceMatcher = doubleSpace.matcher(text);
+        Matcher spaceMatcher = DOUBLE_SPACE_PATTERN.matcher(text);
         while (spaceMatcher.find()) {
             errors.add(new GrammarError(
                     spaceMatcher.start(), spaceMatcher.end(), "PUNCTUATION",
@@ -6,6 +6,8 @@ import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarCheckResponse;
 import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarError;
 import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
 import com.group4.vibeWrite.GrammerCheckerManagement.Repository.GrammarCheckRepository;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.GrammarRule;
+import com.group4.vibeWrite.GrammerCheckerManagement.Util.GrammarRuleEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import opennlp.tools.sentdetect.SentenceDetectorME;
@@ -32,7 +34,11 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GrammarCheckService {
 
+    private static final Pattern DOUBLE_SPACE_PATTERN = Pattern.compile("\\s{2,}");
+    private static final Pattern NO_SPACE_AFTER_PUNCTUATION_PATTERN = Pattern.compile("[.!?][a-zA-Z]");
+
     private final GrammarCheckRepository grammarCheckRepository;
+    private final GrammarHistoryWriter grammarHistoryWriter;
 
     private SentenceDetectorME sentenceDetector;
     private TokenizerME tokenizer;
@@ -40,7 +46,7 @@ public class GrammarCheckService {
 
     // Common grammar rules and patterns
     private final Map<String, String> commonMisspellings = new HashMap<>();
-    private final Map<String, String> grammarRules = new HashMap<>();
+    private GrammarRuleEngine grammarRules;
     private final Set<String> commonWords = new HashSet<>();
 
     @PostConstruct
@@ -85,11 +91,17 @@ public class GrammarCheckService {
     }
 
     private void initializeGrammarRules() {
-        grammarRules.put("\\bthere\\s+is\\s+\\w+s\\b", "Use 'there are' with plural nouns");
-        grammarRules.put("\\byour\\s+welcome\\b", "Use 'you're welcome'");
-        grammarRules.put("\\bits\\s+not\\s+it's\\b", "Use 'it's' for 'it is'");
-        grammarRules.put("\\beffect\\s+on\\b", "Consider using 'affect' as a verb");
-        grammarRules.put("\\bwho's\\s+car\\b", "Use 'whose' for possession");
+        grammarRules = new GrammarRuleEngine(List.of(
+                grammarRule("\\bthere\\s+is\\s+\\w+s\\b", "Use 'there are' with plural nouns"),
+                grammarRule("\\byour\\s+welcome\\b", "Use 'you're welcome'"),
+                grammarRule("\\bits\\s+not\\s+it's\\b", "Use 'it's' for 'it is'"),
+                grammarRule("\\beffect\\s+on\\b", "Consider using 'affect' as a verb"),
+                grammarRule("\\bwho's\\s+car\\b", "Use 'whose' for possession")
+        ), Pattern.CASE_INSENSITIVE);
+    }
+
+    private GrammarRule grammarRule(String regex, String description) {
+        return new GrammarRule(regex, "GRAMMAR", description, "", "HIGH");
     }
 
     private void initializeCommonMisspellings() {
@@ -188,29 +200,14 @@ public class GrammarCheckService {
     }
 
     private List<GrammarError> checkGrammarPatterns(String text) {
-        List<GrammarError> errors = new ArrayList<>();
-
-        for (Map.Entry<String, String> rule : grammarRules.entrySet()) {
-            Pattern pattern = Pattern.compile(rule.getKey(), Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(text);
-
-            while (matcher.find()) {
-                errors.add(new GrammarError(
-                        matcher.start(), matcher.end(), "GRAMMAR",
-                        matcher.group(), "", rule.getValue(), "HIGH"
-                ));
-            }
-        }
-
-        return errors;
+        return grammarRules.scan(text);
     }
 
     private List<GrammarError> checkPunctuation(String text) {
         List<GrammarError> errors = new ArrayList<>();
 
         // Check for double spaces
-        Pattern doubleSpace = Pattern.compile("\\s{2,}");
-        Matcher matcher = doubleSpace.matcher(text);
+        Matcher matcher = DOUBLE_SPACE_PATTERN.matcher(text);
         while (matcher.find()) {
             errors.add(new GrammarError(
                     matcher.start(), matcher.end(), "PUNCTUATION",
@@ -219,8 +216,7 @@ public class GrammarCheckService {
         }
 
         // Check for missing spaces after punctuation
-        Pattern noSpaceAfterPunct = Pattern.compile("[.!?][a-zA-Z]");
-        matcher = noSpaceAfterPunct.matcher(text);
+        matcher = NO_SPACE_AFTER_PUNCTUATION_PATTERN.matcher(text);
         while (matcher.find()) {
             String original = matcher.group();
             String corrected = original.charAt(0) + " " + original.substring(1);
@@ -405,7 +401,7 @@ public class GrammarCheckService {
                     errorDetails, historyMetrics
             );
 
-            grammarCheckRepository.save(history);
+            grammarHistoryWriter.enqueue(history);
 
         } catch (Exception e) {
             log.error("Error saving grammar check history: ", e);
@@ -431,10 +427,7 @@ public class GrammarCheckService {
     }
 
     public double getUserAverageGrammarScore(String userId) {
-        List<GrammarCheckHistory> history = grammarCheckRepository.findByUserIdForAverageCalculation(userId);
-        return history.stream()
-                .mapToInt(GrammarCheckHistory::getGrammarScore)
-                .average()
-                .orElse(0.0);
+        Double averageScore = grammarCheckRepository.averageGrammarScoreByUserId(userId);
+        return averageScore != null ? averageScore : 0.0;
     }
 }
@@ -0,0 +1,125 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Service;
+
+import com.group4.vibeWrite.Config.GrammarServiceConfig;
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for grammar check history.
+ * Checks enqueue their history and return immediately; a scheduled flush drains the queue
+ * and bulk-inserts batches into grammar_check_history, so Mongo latency stays off the
+ * request path. When the queue is full, enqueueing waits briefly and then drops the entry.
+ * Each written batch is also folded into the per-user stats rollups; a batch the rollups
+ * could not take is released back to rollup seeding.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GrammarHistoryWriter {
+
+    private final MongoTemplate mongoTemplate;
+    private final GrammarStatsRollupService grammarStatsRollupService;
+    private final GrammarServiceConfig.GrammarSettings grammarSettings;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<GrammarCheckHistory> queue;
+
+    private Counter flushedCounter;
+    private Counter droppedCounter;
+    private Counter rollupFailedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(Math.max(1, grammarSettings.getHistoryQueueCapacity()));
+
+        flushedCounter = Counter.builder("vibewrite.grammar.history.flushed")
+                .description("Grammar history entries written to MongoDB")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("vibewrite.grammar.history.dropped")
+                .description("Grammar history entries dropped because the queue was full or a write failed")
+                .register(meterRegistry);
+        rollupFailedCounter = Counter.builder("vibewrite.grammar.history.rollup.failed")
+                .description("Grammar history entries written but not applied to the stats rollups")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("vibewrite.grammar.history.flush")
+                .description("Time spent bulk-inserting a batch of grammar history")
+                .register(meterRegistry);
+        Gauge.builder("vibewrite.grammar.history.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+    }
+
+    public void enqueue(GrammarCheckHistory history) {
+        try {
+            if (!queue.offer(history, grammarSettings.getHistoryEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                droppedCounter.increment();
+                log.warn("Grammar history queue is full, dropping entry for user {}", history.getUserId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vibewrite.grammar.history-flush-interval-ms:500}")
+    public void flush() {
+        int batchSize = Math.max(1, grammarSettings.getHistoryBatchSize());
+        List<GrammarCheckHistory> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void writeBatch(List<GrammarCheckHistory> batch) {
+        // Marked before the insert so rollup seeding never counts these entries a second time
+        batch.forEach(history -> history.setRolledUp(true));
+        try {
+            flushTimer.record(() -> mongoTemplate.insert(batch, GrammarCheckHistory.class));
+            flushedCounter.increment(batch.size());
+        } catch (Exception e) {
+            droppedCounter.increment(batch.size());
+            log.error("Error saving {} grammar check history entries: ", batch.size(), e);
+            return;
+        }
+
+        try {
+            grammarStatsRollupService.recordChecks(batch);
+        } catch (Exception e) {
+            rollupFailedCounter.increment(batch.size());
+            log.error("Error updating grammar stats rollups for {} history entries: ", batch.size(), e);
+            releaseFromRollups(batch);
+        }
+    }
+
+    // Unmarks the batch so the next stats read seeds it into the rollups instead
+    private void releaseFromRollups(List<GrammarCheckHistory> batch) {
+        try {
+            grammarStatsRollupService.releaseChecks(batch);
+        } catch (Exception e) {
+            log.error("Error releasing {} history entries back to rollup seeding: ", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Service;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarCheckHistory;
+import com.group4.vibeWrite.GrammerCheckerManagement.Entity.GrammarUserStats;
+import com.group4.vibeWrite.GrammerCheckerManagement.Repository.GrammarUserStatsRepository;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maintains the per-user grammar_user_stats rollup.
+ *
+ * Saved checks are folded into the rollup with an upserting $inc, so reading stats is a
+ * single document lookup. The history writer marks every entry it counts as rolledUp, and
+ * a rollup it creates starts with seeded=false. The first read of such a rollup, or of a
+ * user with no rollup yet, folds in the history the writer never counted with one
+ * conditional update and then marks those entries rolledUp too. The two sets never
+ * overlap, so a check written while a rollup is being seeded is counted exactly once
+ * whichever side gets there first. When the writer fails to apply a batch it releases the
+ * entries again and flags the rollup for seeding, so the next read counts them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GrammarStatsRollupService {
+
+    private final MongoTemplate mongoTemplate;
+    private final GrammarUserStatsRepository grammarUserStatsRepository;
+
+    /**
+     * Applies a batch of newly inserted history entries to the rollups, one update per user.
+     */
+    public void recordChecks(List<GrammarCheckHistory> batch) {
+        Map<String, List<GrammarCheckHistory>> byUser = new LinkedHashMap<>();
+        for (GrammarCheckHistory history : batch) {
+            if (history.getUserId() != null) {
+                byUser.computeIfAbsent(history.getUserId(), userId -> new ArrayList<>()).add(history);
+            }
+        }
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, GrammarUserStats.class);
+        byUser.forEach((userId, checks) ->
+                bulkOps.upsert(Query.query(Criteria.where("_id").is(userId)),
+                        toUpdate(checks, true).setOnInsert("seeded", false)));
+        bulkOps.execute();
+    }
+
+    /**
+     * Hands a batch the rollups never received back to seeding: the entries lose their
+     * rolledUp mark and the users' rollups are flagged unseeded.
+     */
+    public void releaseChecks(List<GrammarCheckHistory> batch) {
+        List<String> ids = new ArrayList<>(batch.size());
+        Set<String> userIds = new LinkedHashSet<>();
+        for (GrammarCheckHistory history : batch) {
+            if (history.getUserId() != null) {
+                ids.add(history.getId());
+                userIds.add(history.getUserId());
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        // Entries first, so a seed that sees the flag also sees them
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+                Update.update("rolledUp", false), GrammarCheckHistory.class);
+        mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(userIds)),
+                Update.update("seeded", false), GrammarUserStats.class);
+    }
+
+    public GrammarUserStats getStats(String userId) {
+        Optional<GrammarUserStats> rollup = grammarUserStatsRepository.findById(userId);
+        if (rollup.isPresent() && !Boolean.FALSE.equals(rollup.get().getSeeded())) {
+            return rollup.get();
+        }
+
+        seedFromHistory(userId, rollup.isPresent());
+        return grammarUserStatsRepository.findById(userId).orElseGet(() -> emptyStats(userId));
+    }
+
+    // Checks must be in check order; newest=false appends their scores behind the ring instead
+    private Update toUpdate(List<GrammarCheckHistory> checks, boolean newest) {
+        long scoreSum = 0;
+        long totalWords = 0;
+        double readabilitySum = 0;
+        Map<String, Long> errorTypeCounts = new HashMap<>();
+
+        // Batches are in check order; the ring keeps the newest score first
+        Object[] scoresNewestFirst = new Object[checks.size()];
+        for (int i = 0; i < checks.size(); i++) {
+            GrammarCheckHistory history = checks.get(i);
+            scoreSum += history.getGrammarScore();
+            if (history.getMetrics() != null) {
+                totalWords += history.getMetrics().getWordCount();
+                readabilitySum += history.getMetrics().getReadabilityScore();
+            }
+            if (history.getErrors() != null) {
+                for (GrammarCheckHistory.ErrorDetail error : history.getErrors()) {
+                    errorTypeCounts.merge(String.valueOf(error.getErrorType()), 1L, Long::sum);
+                }
+            }
+            scoresNewestFirst[checks.size() - 1 - i] = history.getGrammarScore();
+        }
+
+        Update update = new Update()
+                .inc("totalChecks", checks.size())
+                .inc("scoreSum", scoreSum)
+                .inc("totalWords", totalWords)
+                .inc("readabilitySum", readabilitySum)
+                .set("updatedAt", LocalDateTime.now());
+        errorTypeCounts.forEach((errorType, count) -> update.inc("errorTypeCounts." + errorType, count));
+        Update.PushOperatorBuilder push = update.push("recentScores");
+        if (newest) {
+            push.atPosition(0);
+        }
+        push.slice(GrammarUserStats.RECENT_SCORES_SIZE).each(scoresNewestFirst);
+        return update;
+    }
+
+    // Adds the history the writer never counted to the rollup, creating it when the user has none
+    private void seedFromHistory(String userId, boolean rollupExists) {
+        Query uncounted = Query.query(Criteria.where("userId").is(userId).and("rolledUp").ne(true))
+                .with(Sort.by(Sort.Direction.ASC, "checkedAt", "_id"));
+        uncounted.fields().include("userId", "grammarScore", "metrics.wordCount",
+                "metrics.readabilityScore", "errors.errorType", "checkedAt");
+        List<GrammarCheckHistory> checks = mongoTemplate.find(uncounted, GrammarCheckHistory.class);
+        if (checks.isEmpty() && !rollupExists) {
+            return;
+        }
+
+        // Uncounted checks are mostly older than anything the writer pushed, so they go after them
+        Update update = checks.isEmpty() ? new Update().set("updatedAt", LocalDateTime.now()) : toUpdate(checks, false);
+        update.set("seeded", true);
+
+        UpdateResult result;
+        try {
+            // Matches only an unseeded rollup, so concurrent seeders apply the history once
+            result = mongoTemplate.upsert(Query.query(Criteria.where("_id").is(userId).and("seeded").is(false)),
+                    update, GrammarUserStats.class);
+        } catch (DuplicateKeyException e) {
+            // Another request seeded the rollup first
+            return;
+        }
+        if (result.getMatchedCount() == 0 && result.getUpsertedId() == null) {
+            return;
+        }
+
+        if (!checks.isEmpty()) {
+            List<String> ids = checks.stream().map(GrammarCheckHistory::getId).toList();
+            mongoTemplate.updateMulti(Query.query(Criteria.where("_id").in(ids)),
+                    Update.update("rolledUp", true), GrammarCheckHistory.class);
+        }
+        log.info("Seeded grammar stats rollup for user {} from {} history entries", userId, checks.size());
+    }
+
+    private GrammarUserStats emptyStats(String userId) {
+        GrammarUserStats stats = new GrammarUserStats();
+        stats.setUserId(userId);
+        stats.setErrorTypeCounts(new HashMap<>());
+        stats.setRecentScores(new ArrayList<>());
+        stats.setUpdatedAt(LocalDateTime.now());
+        return stats;
+    }
+}
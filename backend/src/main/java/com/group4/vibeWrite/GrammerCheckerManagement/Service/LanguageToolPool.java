@@ -0,0 +1,132 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Service;
+
+import com.group4.vibeWrite.Config.GrammarServiceConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.languagetool.JLanguageTool;
+import org.languagetool.language.AmericanEnglish;
+import org.languagetool.rules.CategoryId;
+import org.languagetool.rules.RuleMatch;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of pre-warmed JLanguageTool instances.
+ * JLanguageTool is not thread-safe, so each check borrows an instance exclusively
+ * and hands it back when done.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LanguageToolPool {
+
+    private static final String WARM_UP_TEXT = "This is a short sentence used to warm up the grammar checker.";
+
+    private final GrammarServiceConfig.GrammarSettings grammarSettings;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger inUse = new AtomicInteger();
+    private BlockingQueue<JLanguageTool> idle;
+    private int poolSize;
+
+    private Timer waitTimer;
+    private Counter timeoutCounter;
+
+    @PostConstruct
+    public void init() {
+        poolSize = Math.max(1, grammarSettings.getLanguageToolPoolSize());
+        idle = new ArrayBlockingQueue<>(poolSize);
+
+        try {
+            for (int i = 0; i < poolSize; i++) {
+                idle.add(createInstance());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to initialize LanguageTool pool", e);
+        }
+
+        waitTimer = Timer.builder("vibewrite.grammar.languagetool.pool.wait")
+                .description("Time spent waiting to borrow a LanguageTool instance")
+                .register(meterRegistry);
+        timeoutCounter = Counter.builder("vibewrite.grammar.languagetool.pool.timeouts")
+                .description("Borrow attempts that timed out waiting for a LanguageTool instance")
+                .register(meterRegistry);
+        Gauge.builder("vibewrite.grammar.languagetool.pool.size", () -> poolSize)
+                .register(meterRegistry);
+        Gauge.builder("vibewrite.grammar.languagetool.pool.active", inUse, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("vibewrite.grammar.languagetool.pool.utilization", inUse, active -> (double) active.get() / poolSize)
+                .description("Fraction of LanguageTool instances currently borrowed")
+                .register(meterRegistry);
+
+        log.info("LanguageTool pool initialized with {} instances", poolSize);
+    }
+
+    @PreDestroy
+    public void cleanup() {
+        if (idle != null) {
+            idle.clear();
+        }
+    }
+
+    public List<RuleMatch> check(String text) throws IOException {
+        JLanguageTool languageTool = acquire();
+        try {
+            return languageTool.check(text);
+        } finally {
+            release(languageTool);
+        }
+    }
+
+    private JLanguageTool createInstance() throws IOException {
+        JLanguageTool languageTool = new JLanguageTool(new AmericanEnglish());
+
+        // Enable specific rule categories
+        languageTool.enableRuleCategory(new CategoryId("GRAMMAR"));
+        languageTool.enableRuleCategory(new CategoryId("PUNCTUATION"));
+        languageTool.enableRuleCategory(new CategoryId("TYPOGRAPHY"));
+        languageTool.enableRuleCategory(new CategoryId("STYLE"));
+
+        // Run one check up front so rule and dictionary loading doesn't hit the first request
+        languageTool.check(WARM_UP_TEXT);
+        return languageTool;
+    }
+
+    private JLanguageTool acquire() throws IOException {
+        long start = System.nanoTime();
+        JLanguageTool languageTool;
+        try {
+            languageTool = idle.poll(grammarSettings.getLanguageToolAcquireTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a LanguageTool instance");
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (languageTool == null) {
+            timeoutCounter.increment();
+            throw new IOException("Timed out waiting for a LanguageTool instance");
+        }
+        inUse.incrementAndGet();
+        return languageTool;
+    }
+
+    private void release(JLanguageTool languageTool) {
+        inUse.decrementAndGet();
+        idle.offer(languageTool);
+    }
+}
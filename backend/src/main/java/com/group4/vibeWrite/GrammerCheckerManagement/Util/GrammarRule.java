@@ -0,0 +1,17 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A single regex-based grammar/style rule and the error it reports.
+ */
+@Getter
+@RequiredArgsConstructor
+public class GrammarRule {
+    private final String regex;
+    private final String errorType;
+    private final String description;
+    private final String suggestedText;
+    private final String severity;
+}
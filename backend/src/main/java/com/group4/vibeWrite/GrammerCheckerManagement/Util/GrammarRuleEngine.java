@@ -0,0 +1,113 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Util;
+
+import com.group4.vibeWrite.GrammerCheckerManagement.Dto.GrammarError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable set of precompiled grammar rules.
+ *
+ * All rules are folded into one alternation so the text is walked once per scan
+ * instead of once per rule. Results are the same as running every rule on its own:
+ * each rule reports its non-overlapping matches, and when several rules match at
+ * the same position the later ones are confirmed with their own precompiled pattern.
+ * Rules must not use numbered backreferences, since group numbers shift when combined.
+ */
+public final class GrammarRuleEngine {
+
+    private final List<GrammarRule> rules;
+    private final Pattern[] patterns;
+    private final int[] groupIndexes;
+    private final Pattern combined;
+
+    public GrammarRuleEngine(List<GrammarRule> rules, int flags) {
+        this.rules = List.copyOf(rules);
+        this.patterns = new Pattern[this.rules.size()];
+        this.groupIndexes = new int[this.rules.size()];
+
+        StringBuilder alternation = new StringBuilder();
+        int nextGroup = 1;
+        for (int i = 0; i < this.rules.size(); i++) {
+            String regex = this.rules.get(i).getRegex();
+            patterns[i] = Pattern.compile(regex, flags);
+            groupIndexes[i] = nextGroup;
+            nextGroup += 1 + patterns[i].matcher("").groupCount();
+
+            if (i > 0) {
+                alternation.append('|');
+            }
+            alternation.append('(').append(regex).append(')');
+        }
+        this.combined = Pattern.compile(alternation.toString(), flags);
+    }
+
+    public List<GrammarError> scan(String text) {
+        List<GrammarError> errors = new ArrayList<>();
+        if (rules.isEmpty() || text.isEmpty()) {
+            return errors;
+        }
+
+        int[] lastEnd = new int[rules.size()];
+        Matcher[] ruleMatchers = new Matcher[rules.size()];
+        Matcher scanner = combined.matcher(text);
+
+        int from = 0;
+        while (from < text.length() && scanner.find(from)) {
+            int start = scanner.start();
+            int first = firstMatchedRule(scanner);
+
+            if (start >= lastEnd[first]) {
+                int end = scanner.end(groupIndexes[first]);
+                errors.add(toError(first, start, end, text));
+                lastEnd[first] = end;
+            }
+
+            // Rules after the first matching alternative were never tried at this position
+            for (int i = first + 1; i < rules.size(); i++) {
+                if (start < lastEnd[i]) {
+                    continue;
+                }
+                Matcher matcher = ruleMatchers[i];
+                if (matcher == null) {
+                    matcher = patterns[i].matcher(text);
+                    matcher.useTransparentBounds(true).useAnchoringBounds(false);
+                    ruleMatchers[i] = matcher;
+                }
+                matcher.region(start, text.length());
+                if (matcher.lookingAt()) {
+                    errors.add(toError(i, start, matcher.end(), text));
+                    lastEnd[i] = matcher.end();
+                }
+            }
+
+            from = start + 1;
+        }
+
+        return errors;
+    }
+
+    private int firstMatchedRule(Matcher scanner) {
+        for (int i = 0; i < groupIndexes.length; i++) {
+            if (scanner.start(groupIndexes[i]) >= 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Combined match did not belong to any rule");
+    }
+
+    private GrammarError toError(int ruleIndex, int start, int end, String text) {
+        GrammarRule rule = rules.get(ruleIndex);
+        return new GrammarError(
+                start,
+                end,
+                rule.getErrorType(),
+                text.substring(start, end),
+                rule.getSuggestedText(),
+                rule.getDescription(),
+                rule.getSeverity()
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package com.group4.vibeWrite.GrammerCheckerManagement.Util;
+
+import lombok.extern.slf4j.Slf4j;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.util.Span;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits text into sentence spans using the bundled OpenNLP model (models/en-sent.bin).
+ * The model is thread-safe and loaded once; the detector is not, so one is created per call.
+ */
+@Component
+@Slf4j
+public class SentenceSegmenter {
+
+    private SentenceModel sentenceModel;
+
+    @PostConstruct
+    public void init() {
+        try (InputStream modelStream = getClass().getClassLoader().getResourceAsStream("models/en-sent.bin")) {
+            if (modelStream != null) {
+                sentenceModel = new SentenceModel(modelStream);
+            } else {
+                log.warn("Sentence model not found, falling back to punctuation-based sentence splitting");
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load sentence model, falling back to punctuation-based sentence splitting: ", e);
+        }
+    }
+
+    public Span[] sentenceSpans(String text) {
+        if (sentenceModel != null) {
+            return new SentenceDetectorME(sentenceModel).sentPosDetect(text);
+        }
+        return punctuationSpans(text);
+    }
+
+    /**
+     * Groups the text into chunks of roughly targetSize characters for independent checking.
+     * Chunks never cut through a sentence, and a paragraph break closes a chunk once it is
+     * at least half full. A single sentence longer than targetSize becomes its own chunk.
+     */
+    public List<Span> chunkSpans(String text, int targetSize) {
+        List<Span> chunks = new ArrayList<>();
+        int chunkStart = -1;
+        int chunkEnd = -1;
+
+        int paragraphStart = 0;
+        while (paragraphStart < text.length()) {
+            int newline = text.indexOf('\n', paragraphStart);
+            int paragraphEnd = newline < 0 ? text.length() : newline;
+
+            if (paragraphEnd > paragraphStart) {
+                String paragraph = text.substring(paragraphStart, paragraphEnd);
+                for (Span sentence : sentenceSpans(paragraph)) {
+                    int start = paragraphStart + sentence.getStart();
+                    int end = paragraphStart + sentence.getEnd();
+
+                    if (chunkStart >= 0 && end - chunkStart > targetSize) {
+                        chunks.add(new Span(chunkStart, chunkEnd));
+                        chunkStart = -1;
+                    }
+                    if (chunkStart < 0) {
+                        chunkStart = start;
+                    }
+                    chunkEnd = end;
+                }
+
+                if (chunkStart >= 0 && chunkEnd - chunkStart >= targetSize / 2) {
+                    chunks.add(new Span(chunkStart, chunkEnd));
+                    chunkStart = -1;
+                }
+            }
+
+            paragraphStart = paragraphEnd + 1;
+        }
+
+        if (chunkStart >= 0) {
+            chunks.add(new Span(chunkStart, chunkEnd));
+        }
+
+        return chunks;
+    }
+
+    private Span[] punctuationSpans(String text) {
+        List<Span> spans = new ArrayList<>();
+        int length = text.length();
+        int start = skipWhitespace(text, 0);
+
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' || c == '!' || c == '?') {
+                int end = i + 1;
+                while (end < length && (text.charAt(end) == '.' || text.charAt(end) == '!' || text.charAt(end) == '?')) {
+                    end++;
+                }
+                if (end == length || Character.isWhitespace(text.charAt(end))) {
+                    spans.add(new Span(start, end));
+                    start = skipWhitespace(text, end);
+                    i = start - 1;
+                }
+            }
+        }
+
+        if (start < length) {
+            int end = length;
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+                end--;
+            }
+            spans.add(new Span(start, end));
+        }
+
+        return spans.toArray(new Span[0]);
+    }
+
+    private int skipWhitespace(String text, int from) {
+        while (from < text.length() && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+}
@@ -0,0 +1,18 @@
+package com.group4.vibeWrite.SeoAnalyst.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Outcome of one item in a bulk client SEO ingest, reported in request order
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSeoIngestResult {
+    private int index;
+    private String documentId;
+    private String status;  // created, updated, superseded, invalid or failed
+    private String error;   // Set for every status except created and updated
+}
@@ -11,6 +11,7 @@ public class SEOAnalyticsDTO {
     private String documentId;
     private String content;
     private String userId;  // Added userId field
+    private Integer keywordLimit;  // Optional, defaults to 5 top keywords
 
     //values computed on the frontend (using AI)
     private Double seoScore;
@@ -0,0 +1,20 @@
+package com.group4.vibeWrite.SeoAnalyst.DTO;
+
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysisSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeoSummaryPage {
+    private List<SeoAnalysisSummary> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -1,30 +1,45 @@
 package com.group4.vibeWrite.SeoAnalyst.controller;
 
+import com.group4.vibeWrite.SeoAnalyst.DTO.ClientSeoIngestResult;
 import com.group4.vibeWrite.SeoAnalyst.DTO.SEOAnalyticsDTO;
-import com.group4.vibeWrite.SeoAnalyst.model.Keyword;
+import com.group4.vibeWrite.SeoAnalyst.DTO.SeoSummaryPage;
 import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
 import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysisRequest;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysisSummary;
 import com.group4.vibeWrite.SeoAnalyst.repository.SeoAnalysisRepository;
+import com.group4.vibeWrite.SeoAnalyst.service.ClientSeoIngestService;
 import com.group4.vibeWrite.SeoAnalyst.service.SeoAnalyzerService;
+import com.group4.vibeWrite.SeoAnalyst.service.SeoResultCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/analyze")
 public class SeoAnalysisController {
 
+    private static final int MAX_SUMMARY_PAGE_SIZE = 100;
+
     @Autowired
     private SeoAnalyzerService seoAnalyzerService;
 
     @Autowired
     private SeoAnalysisRepository seoAnalysisRepository;
 
-    // Server-side analysis with optional cache bypass
+    @Autowired
+    private SeoResultCache seoResultCache;
+
+    @Autowired
+    private ClientSeoIngestService clientSeoIngestService;
+
+    // Server-side analysis, reused while the document's content is unchanged.
+    // force=true only skips results imported from the client AI.
     @PostMapping("/seo")
     public ResponseEntity<SeoAnalysis> analyzeSeo(@RequestBody SeoAnalysisRequest request,
                                                   @RequestParam(name = "force", defaultValue = "false") boolean force) {
@@ -36,11 +51,12 @@ public class SeoAnalysisController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        if (!force) {
-            Optional<SeoAnalysis> cachedResult = seoAnalysisRepository.findById(request.getDocumentId());
-            if (cachedResult.isPresent()) {
-                return ResponseEntity.ok(cachedResult.get());
-            }
+        String contentHash = SeoResultCache.contentHash(request.getContent(),
+                SeoAnalyzerService.keywordLimit(request.getKeywordLimit()));
+        Optional<SeoAnalysis> cachedResult = seoResultCache.find(request.getDocumentId(), contentHash)
+                .filter(analysis -> !force || !"client_ai".equals(analysis.getSource()));
+        if (cachedResult.isPresent()) {
+            return ResponseEntity.ok(cachedResult.get());
         }
 
         SeoAnalysis result = seoAnalyzerService.analyze(request);
@@ -58,35 +74,21 @@ public class SeoAnalysisController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
 
-        SeoAnalysis analysis = seoAnalysisRepository.findById(dto.getDocumentId()).orElse(new SeoAnalysis());
-        analysis.setDocumentId(dto.getDocumentId());
-        analysis.setUserId(dto.getUserId());  // Set userId from DTO
-        analysis.setContent(dto.getContent());
-        analysis.setScore(dto.getSeoScore() != null ? dto.getSeoScore() : 0.0);
-        analysis.setMetaDescription(dto.getMetaDescription());
-        analysis.setRecommendations(dto.getRecommendations());
-
-        // Map keyword density (term -> value) to top Keywords list
-        if (dto.getKeywordDensity() != null && !dto.getKeywordDensity().isEmpty()) {
-            List<Keyword> topKeywords = dto.getKeywordDensity().entrySet().stream()
-                    .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
-                    .limit(5)
-                    .map(e -> new Keyword(e.getKey(), e.getValue()))
-                    .collect(Collectors.toList());
-            analysis.setKeywords(topKeywords);
+        try {
+            return new ResponseEntity<>(clientSeoIngestService.ingest(dto), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
+    }
 
-        // Extended fields
-        analysis.setWordCount(dto.getWordCount());
-        analysis.setReadabilityScore(dto.getReadabilityScore());
-        analysis.setSentimentLabel(dto.getSentimentLabel());
-        analysis.setKeywordDensity(dto.getKeywordDensity());
-        analysis.setPerformanceMetrics(dto.getPerformanceMetrics());
-        analysis.setAiSuggestions(dto.getAiSuggestions());
-        analysis.setSource("client_ai");
-
-        SeoAnalysis saved = seoAnalysisRepository.save(analysis);
-        return new ResponseEntity<>(saved, HttpStatus.OK);
+    // Ingest a backlog of client analyses in one bulk write; returns a status per item in request order
+    @PostMapping("/seo/client/bulk")
+    public ResponseEntity<List<ClientSeoIngestResult>> ingestClientSeoBulk(@RequestBody List<SEOAnalyticsDTO> dtos) {
+        try {
+            return ResponseEntity.ok(clientSeoIngestService.ingestAll(dtos));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
     }
 
     // Retrieve a stored analysis by documentId
@@ -116,4 +118,20 @@ public class SeoAnalysisController {
 
         return ResponseEntity.ok(analyses);
     }
-}
\ No newline at end of file
+
+    // One page of a user's analyses as summaries (documentId, score, top keywords, source) for dashboards
+    @GetMapping("/seo/user/{userId}/summary")
+    public ResponseEntity<SeoSummaryPage> getSeoSummariesByUserId(@PathVariable String userId,
+                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        if (userId == null || userId.isBlank() || page < 0 || size < 1) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        int pageSize = Math.min(size, MAX_SUMMARY_PAGE_SIZE);
+        Slice<SeoAnalysisSummary> slice = seoAnalysisRepository.findSummariesByUserId(userId,
+                PageRequest.of(page, pageSize, Sort.by(Sort.Direction.ASC, "documentId")));
+
+        return ResponseEntity.ok(new SeoSummaryPage(slice.getContent(), page, pageSize, slice.hasNext()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.group4.vibeWrite.SeoAnalyst.controller;
+
+import com.group4.vibeWrite.SeoAnalyst.model.SeoReanalysisCheckpoint;
+import com.group4.vibeWrite.SeoAnalyst.service.SeoReanalysisJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// Operator endpoints for the background SEO re-analysis job; /api/admin/** is restricted to admins
+@RestController
+@RequestMapping("/api/admin/seo/reanalysis")
+public class SeoReanalysisController {
+
+    @Autowired
+    private SeoReanalysisJob seoReanalysisJob;
+
+    // Starts or resumes the job; restart=true discards the checkpoint and begins again
+    @PostMapping("/start")
+    public ResponseEntity<SeoReanalysisCheckpoint> start(@RequestParam(name = "restart", defaultValue = "false") boolean restart) {
+        return new ResponseEntity<>(seoReanalysisJob.start(restart), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/pause")
+    public ResponseEntity<SeoReanalysisCheckpoint> pause() {
+        return ResponseEntity.ok(seoReanalysisJob.pause());
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<SeoReanalysisCheckpoint> status() {
+        return ResponseEntity.ok(seoReanalysisJob.status());
+    }
+}
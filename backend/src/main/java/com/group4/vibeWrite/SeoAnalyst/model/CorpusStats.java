@@ -0,0 +1,21 @@
+package com.group4.vibeWrite.SeoAnalyst.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Single document holding corpus-wide counts for the SEO term index
+@Setter
+@Getter
+@Document(collection = "SeoCorpusStats")
+public class CorpusStats {
+
+    public static final String CORPUS_ID = "corpus";
+
+    @Id
+    private String id;
+    private long totalDocuments;
+    private long changeCount;  // Bumped by every index write, so a dictionary snapshot can be checked
+    private int version;  // Index format the counts were built with
+}
@@ -3,6 +3,7 @@ package com.group4.vibeWrite.SeoAnalyst.model;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.Map;
 @Setter
 @Getter
 @Document(collection = "SeoAnalysis")
+@CompoundIndex(name = "user_document", def = "{ 'userId': 1, '_id': 1 }")
 public class SeoAnalysis {
 
     @Id
@@ -31,4 +33,6 @@ public class SeoAnalysis {
     private Map<String, Double> performanceMetrics; // arbitrary metrics used by charts
     private List<String> aiSuggestions; // AI suggestions shown on UI
     private String source;              // "server" or "client_ai"
+    private String contentHash;         // Hash of content and analysis options, for cache validation
+    private Integer keywordLimit;       // Keywords requested, so re-analysis reproduces the same options
 }
\ No newline at end of file
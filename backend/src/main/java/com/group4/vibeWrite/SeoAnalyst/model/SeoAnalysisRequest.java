@@ -9,4 +9,5 @@ public class SeoAnalysisRequest {
     private String documentId;
     private String content;
     private String userId;  // Added userId field
+    private Integer keywordLimit;  // Optional, defaults to 5 top keywords
 }
\ No newline at end of file
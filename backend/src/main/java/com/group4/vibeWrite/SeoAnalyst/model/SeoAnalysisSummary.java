@@ -0,0 +1,11 @@
+package com.group4.vibeWrite.SeoAnalyst.model;
+
+import java.util.List;
+
+// Closed projection of SeoAnalysis for listings; only these fields are read from Mongo
+public interface SeoAnalysisSummary {
+    String getDocumentId();
+    double getScore();
+    List<Keyword> getKeywords(); // Top keywords
+    String getSource();
+}
@@ -0,0 +1,34 @@
+package com.group4.vibeWrite.SeoAnalyst.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+// Progress of the background SEO re-analysis job, saved after every batch so it can resume
+@Setter
+@Getter
+@Document(collection = "SeoReanalysisJob")
+public class SeoReanalysisCheckpoint {
+
+    public static final String JOB_ID = "seo-reanalysis";
+
+    public enum Status { IDLE, RUNNING, PAUSED, COMPLETED, FAILED }
+
+    @Id
+    private String id;
+    private Status status;
+    private String lastDocumentId;  // Keyset cursor: every analysis up to this ID is done
+    private long totalDocuments;    // Eligible analyses when the run started
+    private long processed;
+    private long updated;
+    private long failed;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private String owner;             // Instance running the job; only it may write progress
+    private LocalDateTime heartbeatAt; // Renewed after every batch; a stale heartbeat frees the lease
+    private boolean pauseRequested;
+}
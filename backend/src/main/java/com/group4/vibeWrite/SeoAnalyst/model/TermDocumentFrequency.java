@@ -0,0 +1,17 @@
+package com.group4.vibeWrite.SeoAnalyst.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Number of stored analyses whose content contains the term
+@Setter
+@Getter
+@Document(collection = "SeoTermIndex")
+public class TermDocumentFrequency {
+
+    @Id
+    private String term;
+    private long documentFrequency;
+}
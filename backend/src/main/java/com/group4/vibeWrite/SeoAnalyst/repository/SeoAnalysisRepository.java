@@ -1,6 +1,9 @@
 package com.group4.vibeWrite.SeoAnalyst.repository;
 
 import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysisSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +13,7 @@ import java.util.List;
 public interface SeoAnalysisRepository extends MongoRepository<SeoAnalysis, String> {
     // Find all analyses by userId
     List<SeoAnalysis> findByUserId(String userId);
+
+    // One page of a user's analyses as summaries, without content or client AI payloads
+    Slice<SeoAnalysisSummary> findSummariesByUserId(String userId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,316 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.SeoAnalyst.DTO.ClientSeoIngestResult;
+import com.group4.vibeWrite.SeoAnalyst.DTO.SEOAnalyticsDTO;
+import com.group4.vibeWrite.SeoAnalyst.model.Keyword;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.group4.vibeWrite.Util.TopK;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Ingest of SEO analyses computed on the client, one at a time or in bulk.
+ *
+ * A bulk sync costs two round trips however many items it carries. One $in query reads the
+ * current content of the affected documents, which the corpus index needs, and one
+ * unordered bulk write upserts every valid item. Each item gets the same field updates as
+ * a single ingest, so existing server-side fields that the client does not send are kept.
+ * Every bulk upsert only matches the content hash that was read, so an item whose document
+ * changed in between fails with a duplicate key and is retried on its own; whether an item
+ * was created or updated comes from the bulk write result. When the bulk write fails
+ * without a result, the documents are read again and an item counts as written when its
+ * document now carries the item's content hash.
+ */
+@Slf4j
+@Service
+public class ClientSeoIngestService {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final CorpusIndexService corpusIndexService;
+    private final SeoResultCache seoResultCache;
+    private final int maxBatchSize;
+
+    public ClientSeoIngestService(MongoTemplate mongoTemplate,
+                                  CorpusIndexService corpusIndexService,
+                                  SeoResultCache seoResultCache,
+                                  @Value("${vibewrite.seo.client-ingest-max-size:500}") int maxBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.corpusIndexService = corpusIndexService;
+        this.seoResultCache = seoResultCache;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // Maps the client's keyword density (term -> value) to its top Keywords
+    public static List<Keyword> topKeywords(SEOAnalyticsDTO dto) {
+        int limit = SeoAnalyzerService.keywordLimit(dto.getKeywordLimit());
+        return TopK.largestByValue(dto.getKeywordDensity(), limit).stream()
+                .map(e -> new Keyword(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Upserts one client analysis and returns the stored document in a single round trip. The
+     * findAndModify returns the document it replaced, so the corpus index always moves the
+     * document from the content that was actually overwritten, and the stored document is
+     * that one with the update applied.
+     */
+    public SeoAnalysis ingest(SEOAnalyticsDTO dto) {
+        String error = validate(dto);
+        if (error != null) {
+            throw new IllegalArgumentException(error);
+        }
+
+        Update update = toUpdate(dto);
+        SeoAnalysis previous = mongoTemplate.findAndModify(Query.query(Criteria.where("_id").is(dto.getDocumentId())),
+                update, FindAndModifyOptions.options().upsert(true).returnNew(false), SeoAnalysis.class);
+        corpusIndexService.recordChanges(Collections.singletonList(previous != null ? contentOf(previous) : null),
+                Collections.singletonList(dto.getContent()));
+        seoResultCache.evict(dto.getDocumentId());
+        return applied(previous, dto.getDocumentId(), update);
+    }
+
+    public List<ClientSeoIngestResult> ingestAll(List<SEOAnalyticsDTO> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one analysis");
+        }
+        if (dtos.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot exceed " + maxBatchSize + " analyses");
+        }
+
+        List<ClientSeoIngestResult> results = new ArrayList<>(dtos.size());
+        // Unordered writes have no defined order, so only the last copy of a repeated document is written
+        Map<String, Integer> lastItemByDocument = new HashMap<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            SEOAnalyticsDTO dto = dtos.get(i);
+            String error = validate(dto);
+            results.add(new ClientSeoIngestResult(i, dto != null ? dto.getDocumentId() : null,
+                    error == null ? null : "invalid", error));
+            if (error == null) {
+                Integer earlier = lastItemByDocument.put(dto.getDocumentId(), i);
+                if (earlier != null) {
+                    results.get(earlier).setStatus("superseded");
+                    results.get(earlier).setError("Replaced by item " + i + " for the same document");
+                }
+            }
+        }
+        if (lastItemByDocument.isEmpty()) {
+            return results;
+        }
+
+        Map<String, SeoAnalysis> current = findCurrent(lastItemByDocument.keySet());
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SeoAnalysis.class);
+        List<Integer> itemForOperation = new ArrayList<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (results.get(i).getStatus() != null) {
+                continue;
+            }
+            SEOAnalyticsDTO dto = dtos.get(i);
+            // Every write sets contentHash, so it changes whenever the content does. contentHash: null
+            // also matches a missing field, so an unseen document is upserted
+            SeoAnalysis read = current.get(dto.getDocumentId());
+            Query query = Query.query(Criteria.where("_id").is(dto.getDocumentId())
+                    .and("contentHash").is(read != null ? read.getContentHash() : null));
+            bulkOps.upsert(query, toUpdate(dto));
+            itemForOperation.add(i);
+        }
+
+        Set<Integer> upserted = new HashSet<>();
+        Map<Integer, BulkWriteError> errors = new HashMap<>();
+        Set<Integer> lost = new HashSet<>();
+        RuntimeException bulkFailure = null;
+        try {
+            bulkOps.execute().getUpserts().forEach(upsert -> upserted.add(upsert.getIndex()));
+        } catch (BulkOperationException e) {
+            e.getResult().getUpserts().forEach(upsert -> upserted.add(upsert.getIndex()));
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error));
+        } catch (RuntimeException e) {
+            // No per-item outcome came back, so read the documents again to see which writes landed
+            bulkFailure = e;
+            log.error("Bulk client SEO ingest of {} analyses failed: ", itemForOperation.size(), e);
+            Map<String, SeoAnalysis> written;
+            try {
+                written = findCurrent(lastItemByDocument.keySet());
+            } catch (RuntimeException readFailure) {
+                e.addSuppressed(readFailure);
+                return failAll(dtos, results, itemForOperation, e);
+            }
+            for (int op = 0; op < itemForOperation.size(); op++) {
+                SEOAnalyticsDTO dto = dtos.get(itemForOperation.get(op));
+                SeoAnalysis after = written.get(dto.getDocumentId());
+                if (after == null || !contentHash(dto).equals(after.getContentHash())) {
+                    lost.add(op);
+                } else if (!current.containsKey(dto.getDocumentId())) {
+                    upserted.add(op);
+                }
+            }
+        }
+
+        // Index only the writes that landed
+        List<String> indexedPrevious = new ArrayList<>();
+        List<String> indexedNew = new ArrayList<>();
+        int failed = 0;
+        for (int op = 0; op < itemForOperation.size(); op++) {
+            int item = itemForOperation.get(op);
+            SEOAnalyticsDTO dto = dtos.get(item);
+            ClientSeoIngestResult result = results.get(item);
+            seoResultCache.evict(dto.getDocumentId());
+
+            String previousContent;
+            BulkWriteError error = errors.get(op);
+            if (lost.contains(op)) {
+                result.setStatus("failed");
+                result.setError(bulkFailure.getMessage());
+                failed++;
+                continue;
+            } else if (error == null) {
+                previousContent = upserted.contains(op) ? null : contentOf(current.get(dto.getDocumentId()));
+            } else if (error.getCode() == DUPLICATE_KEY) {
+                // The document changed after it was read; write it on its own against its current content
+                try {
+                    previousContent = replace(dto);
+                } catch (RuntimeException e) {
+                    result.setStatus("failed");
+                    result.setError(e.getMessage());
+                    failed++;
+                    continue;
+                }
+            } else {
+                result.setStatus("failed");
+                result.setError(error.getMessage());
+                failed++;
+                continue;
+            }
+
+            result.setStatus(previousContent == null ? "created" : "updated");
+            indexedPrevious.add(previousContent);
+            indexedNew.add(dto.getContent());
+        }
+        if (failed > 0) {
+            log.warn("Bulk client SEO ingest: {} of {} writes failed", failed, itemForOperation.size());
+        }
+        if (!indexedNew.isEmpty()) {
+            corpusIndexService.recordChanges(indexedPrevious, indexedNew);
+        }
+        return results;
+    }
+
+    // Reports every write as failed when not even the documents could be read back. Whatever
+    // landed is then missing from the corpus index, so the index is rebuilt on the next startup
+    private List<ClientSeoIngestResult> failAll(List<SEOAnalyticsDTO> dtos, List<ClientSeoIngestResult> results,
+                                                List<Integer> itemForOperation, RuntimeException e) {
+        for (int item : itemForOperation) {
+            results.get(item).setStatus("failed");
+            results.get(item).setError(e.getMessage());
+            seoResultCache.evict(dtos.get(item).getDocumentId());
+        }
+        try {
+            corpusIndexService.invalidate();
+        } catch (RuntimeException invalidateFailure) {
+            log.error("Failed to mark the SEO term index stale: ", invalidateFailure);
+        }
+        return results;
+    }
+
+    // Upserts the analysis atomically and returns the content it replaced, "" for an analysis
+    // without content, or null when the document is new
+    private String replace(SEOAnalyticsDTO dto) {
+        Query query = Query.query(Criteria.where("_id").is(dto.getDocumentId()));
+        query.fields().include("content");
+        SeoAnalysis previous = mongoTemplate.findAndModify(query, toUpdate(dto),
+                FindAndModifyOptions.options().upsert(true).returnNew(false), SeoAnalysis.class);
+        return previous != null ? contentOf(previous) : null;
+    }
+
+    // The document as stored after the update: its $set fields mapped the way the write maps them
+    // and laid over the previous document, or over a new one holding only the id
+    private SeoAnalysis applied(SeoAnalysis previous, String documentId, Update update) {
+        MongoConverter converter = mongoTemplate.getConverter();
+        Document stored = new Document();
+        if (previous != null) {
+            converter.write(previous, stored);
+        } else {
+            stored.put("_id", documentId);
+        }
+        Document mapped = new UpdateMapper(converter).getMappedObject(update.getUpdateObject(),
+                converter.getMappingContext().getPersistentEntity(SeoAnalysis.class));
+        stored.putAll(mapped.get("$set", Document.class));
+        return converter.read(SeoAnalysis.class, stored);
+    }
+
+    private static String contentHash(SEOAnalyticsDTO dto) {
+        return SeoResultCache.contentHash(dto.getContent(), SeoAnalyzerService.keywordLimit(dto.getKeywordLimit()));
+    }
+
+    private static String contentOf(SeoAnalysis analysis) {
+        return analysis != null && analysis.getContent() != null ? analysis.getContent() : "";
+    }
+
+    private String validate(SEOAnalyticsDTO dto) {
+        if (dto == null) {
+            return "Analysis is missing";
+        }
+        if (dto.getDocumentId() == null || dto.getDocumentId().isBlank()) {
+            return "documentId is required";
+        }
+        if (dto.getUserId() == null || dto.getUserId().isBlank()) {
+            return "userId is required";
+        }
+        if (dto.getKeywordDensity() != null && dto.getKeywordDensity().containsValue(null)) {
+            return "keywordDensity values must be numbers";
+        }
+        return null;
+    }
+
+    // Content and content hash of the documents that exist, by id
+    private Map<String, SeoAnalysis> findCurrent(Set<String> documentIds) {
+        Query query = Query.query(Criteria.where("_id").in(documentIds));
+        query.fields().include("content", "contentHash");
+
+        Map<String, SeoAnalysis> current = new HashMap<>();
+        for (SeoAnalysis existing : mongoTemplate.find(query, SeoAnalysis.class)) {
+            current.put(existing.getDocumentId(), existing);
+        }
+        return current;
+    }
+
+    private Update toUpdate(SEOAnalyticsDTO dto) {
+        int keywordLimit = SeoAnalyzerService.keywordLimit(dto.getKeywordLimit());
+        Update update = new Update()
+                .set("userId", dto.getUserId())
+                .set("content", dto.getContent())
+                .set("score", dto.getSeoScore() != null ? dto.getSeoScore() : 0.0)
+                .set("metaDescription", dto.getMetaDescription())
+                .set("recommendations", dto.getRecommendations())
+                .set("wordCount", dto.getWordCount())
+                .set("readabilityScore", dto.getReadabilityScore())
+                .set("sentimentLabel", dto.getSentimentLabel())
+                .set("keywordDensity", dto.getKeywordDensity())
+                .set("performanceMetrics", dto.getPerformanceMetrics())
+                .set("aiSuggestions", dto.getAiSuggestions())
+                .set("source", "client_ai")
+                .set("keywordLimit", keywordLimit)
+                .set("contentHash", contentHash(dto));
+        if (dto.getKeywordDensity() != null && !dto.getKeywordDensity().isEmpty()) {
+            update.set("keywords", topKeywords(dto));
+        }
+        return update;
+    }
+}
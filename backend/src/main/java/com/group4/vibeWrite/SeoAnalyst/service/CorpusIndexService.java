@@ -0,0 +1,319 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.SeoAnalyst.model.CorpusStats;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.group4.vibeWrite.SeoAnalyst.model.TermDocumentFrequency;
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TextScanner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Persistent document-frequency index over stored SEO analyses.
+ *
+ * Each term maps to the number of analyses whose content contains it, and a single stats
+ * document holds the corpus size. Terms are single tokens plus the bigram and trigram
+ * phrases of content words that recur within the analysis, the same phrases the analyzer
+ * scores, so key phrases get document frequencies too. Both are adjusted with $inc whenever an
+ * analysis is saved or replaced, so IDF needs only the counts of the terms being scored.
+ *
+ * Scoring reads from an in-memory {@link TermDictionary} mirror of the index instead of
+ * querying Mongo. Every index write bumps a change count in the stats document, and the
+ * mirror is only updated once a write has succeeded. The mirror is snapshotted to disk
+ * periodically and on shutdown, and on startup the snapshot is reused when its index
+ * version and change count still match Mongo; otherwise the mirror is reloaded from the
+ * index collection. Startup finishes before the web server takes requests, so no save
+ * races a rebuild or a reload.
+ */
+@Slf4j
+@Service
+public class CorpusIndexService {
+
+    // Bumped whenever terms() changes what is counted, which forces a rebuild on startup
+    static final int INDEX_VERSION = 3;
+
+    // Term frequencies written per bulk request when the index is rebuilt
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Path snapshotPath;
+
+    private volatile TermDictionary dictionary = new TermDictionary();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Lock changeLock = new ReentrantLock();
+
+    public CorpusIndexService(MongoTemplate mongoTemplate,
+                              @Value("${vibewrite.seo.term-dictionary-path:data/seo-term-dictionary.bin}") String snapshotPath) {
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    // Distinct lowercase tokens and recurring content-word phrases of the content, as counted by the index
+    public Set<String> terms(String content) {
+        Set<String> terms = new HashSet<>();
+        if (content == null) {
+            return terms;
+        }
+        TextScan scan = TextScanner.scan(content);
+        for (int i = 0; i < scan.getWordCount(); i++) {
+            String token = scan.token(i);
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        PhraseCounts phrases = PhraseCounts.of(TermCounts.of(scan, SeoAnalyzerService.STOP_WORDS));
+        for (int i = 0; i < phrases.size(); i++) {
+            if (phrases.countAt(i) >= SeoAnalyzerService.MIN_PHRASE_OCCURRENCES) {
+                terms.add(phrases.phrase(i));
+            }
+        }
+        return terms;
+    }
+
+    // Counts a newly stored analysis
+    public void recordInsert(String content) {
+        recordChanges(Collections.singletonList(null), Collections.singletonList(content));
+    }
+
+    // Moves an existing analysis from its old content's terms to the new content's terms
+    public void recordReplace(String previousContent, String newContent) {
+        recordChanges(Collections.singletonList(previousContent != null ? previousContent : ""),
+                Collections.singletonList(newContent));
+    }
+
+    /**
+     * Records several saves at once with one bulk write. previousContents.get(i) is the content
+     * newContents.get(i) replaced, or null when that analysis is new.
+     */
+    public void recordChanges(List<String> previousContents, List<String> newContents) {
+        Map<String, Integer> deltas = new HashMap<>();
+        int inserted = 0;
+        for (int i = 0; i < newContents.size(); i++) {
+            String previousContent = previousContents.get(i);
+            if (previousContent == null) {
+                inserted++;
+            }
+            addTermChanges(deltas, terms(previousContent), terms(newContents.get(i)));
+        }
+        applyChanges(deltas, inserted);
+    }
+
+    private void addTermChanges(Map<String, Integer> deltas, Set<String> oldTerms, Set<String> newTerms) {
+        for (String term : newTerms) {
+            if (!oldTerms.contains(term)) {
+                deltas.merge(term, 1, Integer::sum);
+            }
+        }
+        for (String term : oldTerms) {
+            if (!newTerms.contains(term)) {
+                deltas.merge(term, -1, Integer::sum);
+            }
+        }
+    }
+
+    private void applyChanges(Map<String, Integer> deltas, int inserted) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty() && inserted == 0) {
+            return;
+        }
+
+        if (!deltas.isEmpty()) {
+            BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TermDocumentFrequency.class);
+            deltas.forEach((term, delta) -> {
+                if (delta > 0) {
+                    bulkOps.upsert(termQuery(term), new Update().inc("documentFrequency", delta));
+                } else {
+                    bulkOps.updateOne(termQuery(term), new Update().inc("documentFrequency", delta));
+                }
+            });
+            try {
+                bulkOps.execute();
+            } catch (RuntimeException e) {
+                // Some of the writes may have landed, so neither the mirror nor an older snapshot
+                // can be trusted any more
+                dictionary.setChangeCount(TermDictionary.UNKNOWN_CHANGES);
+                dirty.set(true);
+                try {
+                    mongoTemplate.upsert(corpusQuery(), new Update().inc("changeCount", 1), CorpusStats.class);
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        // Saves in this process reach the mirror in the order they bumped the change count, so
+        // only writes from other instances leave a gap that invalidates the snapshot
+        changeLock.lock();
+        try {
+            CorpusStats stats = mongoTemplate.findAndModify(corpusQuery(),
+                    new Update().inc("totalDocuments", inserted).inc("changeCount", 1),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), CorpusStats.class);
+            dictionary.applyChange(deltas, inserted, stats.getChangeCount());
+        } finally {
+            changeLock.unlock();
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Marks the index stale after saves whose outcome is unknown, so the next startup rebuilds
+     * it from the stored analyses instead of keeping counts that may miss them.
+     */
+    public void invalidate() {
+        mongoTemplate.updateFirst(corpusQuery(), new Update().set("version", 0), CorpusStats.class);
+        log.warn("SEO term index marked stale, it will be rebuilt on the next startup");
+    }
+
+    public long totalDocuments() {
+        return dictionary.getTotalDocuments();
+    }
+
+    // Number of indexed analyses containing the term, 0 for terms never seen
+    public int documentFrequency(String term) {
+        return dictionary.documentFrequency(term);
+    }
+
+    @PostConstruct
+    public void initialize() {
+        buildIfMissing();
+        loadDictionary();
+    }
+
+    /**
+     * Builds the index from the stored analyses the first time the application starts
+     * without one, or with one from an older INDEX_VERSION. Later saves keep it current
+     * incrementally. A snapshot of the old index is deleted, as it counts different terms.
+     */
+    void buildIfMissing() {
+        CorpusStats stats = mongoTemplate.findById(CorpusStats.CORPUS_ID, CorpusStats.class);
+        if (stats != null && stats.getVersion() >= INDEX_VERSION) {
+            return;
+        }
+        if (stats != null) {
+            log.info("SEO term index is version {}, rebuilding as version {}", stats.getVersion(), INDEX_VERSION);
+            mongoTemplate.remove(new Query(), TermDocumentFrequency.class);
+        }
+        try {
+            Files.deleteIfExists(snapshotPath);
+        } catch (IOException e) {
+            log.warn("Failed to delete SEO term dictionary snapshot {}: ", snapshotPath, e);
+        }
+
+        Map<String, Long> frequencies = new HashMap<>();
+        long totalDocuments = 0;
+
+        Query query = new Query();
+        query.fields().include("content");
+        try (Stream<SeoAnalysis> analyses = mongoTemplate.stream(query, SeoAnalysis.class)) {
+            Iterator<SeoAnalysis> iterator = analyses.iterator();
+            while (iterator.hasNext()) {
+                for (String term : terms(iterator.next().getContent())) {
+                    frequencies.merge(term, 1L, Long::sum);
+                }
+                totalDocuments++;
+            }
+        }
+
+        BulkOperations bulkOps = null;
+        int batched = 0;
+        for (Map.Entry<String, Long> entry : frequencies.entrySet()) {
+            if (bulkOps == null) {
+                bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TermDocumentFrequency.class);
+            }
+            bulkOps.upsert(termQuery(entry.getKey()), new Update().set("documentFrequency", entry.getValue()));
+            if (++batched == REBUILD_BATCH_SIZE) {
+                bulkOps.execute();
+                bulkOps = null;
+                batched = 0;
+            }
+        }
+        if (bulkOps != null) {
+            bulkOps.execute();
+        }
+        mongoTemplate.upsert(corpusQuery(), new Update().set("totalDocuments", totalDocuments)
+                .set("version", INDEX_VERSION).inc("changeCount", 1), CorpusStats.class);
+
+        log.info("Built SEO term index: {} terms over {} documents", frequencies.size(), totalDocuments);
+    }
+
+    private void loadDictionary() {
+        CorpusStats stats = mongoTemplate.findById(CorpusStats.CORPUS_ID, CorpusStats.class);
+        long totalDocuments = stats != null ? stats.getTotalDocuments() : 0;
+        long changeCount = stats != null ? stats.getChangeCount() : 0;
+
+        if (Files.exists(snapshotPath)) {
+            try {
+                TermDictionary snapshot = TermDictionary.readSnapshot(snapshotPath);
+                if (snapshot.getIndexVersion() == INDEX_VERSION && snapshot.getChangeCount() == changeCount) {
+                    dictionary = snapshot;
+                    log.info("Loaded SEO term dictionary snapshot: {} terms over {} documents",
+                            snapshot.size(), snapshot.getTotalDocuments());
+                    return;
+                }
+                log.info("SEO term dictionary snapshot is stale (version {} change {}, index is version {} change {}), reloading",
+                        snapshot.getIndexVersion(), snapshot.getChangeCount(), INDEX_VERSION, changeCount);
+            } catch (IOException e) {
+                log.warn("Failed to read SEO term dictionary snapshot {}, reloading: ", snapshotPath, e);
+            }
+        }
+
+        TermDictionary loaded = new TermDictionary();
+        Query query = Query.query(Criteria.where("documentFrequency").gt(0));
+        try (Stream<TermDocumentFrequency> entries = mongoTemplate.stream(query, TermDocumentFrequency.class)) {
+            entries.forEach(entry -> loaded.setDocumentFrequency(entry.getTerm(), (int) entry.getDocumentFrequency()));
+        }
+        loaded.setTotalDocuments(totalDocuments);
+        loaded.setChangeCount(changeCount);
+        loaded.setIndexVersion(INDEX_VERSION);
+        dictionary = loaded;
+        dirty.set(true);
+        log.info("Loaded SEO term dictionary from index: {} terms over {} documents", loaded.size(), totalDocuments);
+    }
+
+    @Scheduled(fixedDelayString = "${vibewrite.seo.term-dictionary-snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            dictionary.writeSnapshot(snapshotPath);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write SEO term dictionary snapshot {}: ", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    private Query termQuery(String term) {
+        return Query.query(Criteria.where("_id").is(term));
+    }
+
+    private Query corpusQuery() {
+        return Query.query(Criteria.where("_id").is(CorpusStats.CORPUS_ID));
+    }
+}
@@ -0,0 +1,121 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TopK;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extractive meta description built from a document's own sentences.
+ *
+ * Sentences are scored in one walk over the scanned word spans by summing the keyword scores
+ * of their tokens. The best few candidates then go through a 0/1 knapsack over the character
+ * budget. The knapsack maximises total score and, among equal scores, fills as much of the
+ * budget as possible. The chosen sentences are emitted in document order.
+ */
+final class MetaDescriptionGenerator {
+
+    // Only this many top-scoring sentences enter the knapsack, bounding it to CANDIDATES x budget cells
+    private static final int CANDIDATES = 48;
+
+    private static final double EPSILON = 1e-12;
+
+    private MetaDescriptionGenerator() {
+    }
+
+    static String generate(String content, TextScan scan, Map<String, Double> keywordScores, int maxLength) {
+        int sentenceCount = scan.getSentenceCount();
+        if (sentenceCount == 0) {
+            return "";
+        }
+
+        // Score every sentence that could fit on its own, walking each word once
+        int[] indexes = new int[sentenceCount];
+        double[] scores = new double[sentenceCount];
+        int fitting = 0;
+        int word = 0;
+        for (int s = 0; s < sentenceCount; s++) {
+            double score = 0;
+            int words = scan.sentenceWordCount(s);
+            for (int w = 0; w < words; w++, word++) {
+                score += keywordScores.getOrDefault(scan.token(word), 0.0);
+            }
+            if (scan.sentenceEnd(s) - scan.sentenceStart(s) <= maxLength) {
+                indexes[fitting] = s;
+                scores[s] = score;
+                fitting++;
+            }
+        }
+        if (fitting == 0) {
+            return "";
+        }
+
+        // Highest score first, earlier sentences winning ties
+        List<Integer> candidates = TopK.largest(
+                Arrays.stream(indexes, 0, fitting).boxed().toList(), CANDIDATES,
+                Comparator.<Integer>comparingDouble(s -> scores[s]).thenComparing(Comparator.reverseOrder()));
+        int[] chosen = candidates.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+        // Knapsack over the budget; every sentence after the first also costs a separating space,
+        // so each is weighted length + 1 against a capacity of maxLength + 1
+        int capacity = maxLength + 1;
+        double[] bestScore = new double[capacity + 1];
+        int[] bestLength = new int[capacity + 1];
+        boolean[][] taken = new boolean[chosen.length][capacity + 1];
+
+        for (int i = 0; i < chosen.length; i++) {
+            int s = chosen[i];
+            int weight = scan.sentenceEnd(s) - scan.sentenceStart(s) + 1;
+            for (int c = capacity; c >= weight; c--) {
+                double score = bestScore[c - weight] + scores[s];
+                int length = bestLength[c - weight] + weight;
+                if (score > bestScore[c] + EPSILON
+                        || (score > bestScore[c] - EPSILON && length > bestLength[c])) {
+                    bestScore[c] = score;
+                    bestLength[c] = length;
+                    taken[i][c] = true;
+                }
+            }
+        }
+
+        // Walk the table back to recover the selection, then emit it in document order
+        boolean[] selected = new boolean[chosen.length];
+        for (int i = chosen.length - 1, c = capacity; i >= 0; i--) {
+            if (taken[i][c]) {
+                selected[i] = true;
+                c -= scan.sentenceEnd(chosen[i]) - scan.sentenceStart(chosen[i]) + 1;
+            }
+        }
+
+        StringBuilder summary = new StringBuilder(maxLength);
+        for (int i = 0; i < chosen.length; i++) {
+            if (selected[i]) {
+                if (summary.length() > 0) {
+                    summary.append(' ');
+                }
+                appendCollapsingWhitespace(summary, content, scan.sentenceStart(chosen[i]), scan.sentenceEnd(chosen[i]));
+            }
+        }
+        return summary.toString();
+    }
+
+    // Line breaks and runs of spaces inside a sentence become single spaces
+    private static void appendCollapsingWhitespace(StringBuilder out, String content, int start, int end) {
+        boolean pendingSpace = false;
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(c);
+            }
+        }
+    }
+}
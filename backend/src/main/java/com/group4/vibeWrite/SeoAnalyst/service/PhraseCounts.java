@@ -0,0 +1,198 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import java.util.Arrays;
+
+/**
+ * Occurrence counts of every bigram and trigram of content words in a document.
+ *
+ * Phrases are windows over the term-ID sequence of a {@link TermCounts} that do not cross a
+ * stop word or sentence end. Each window's key is a polynomial rolling hash of its IDs,
+ * updated in O(1) as the window slides, and windows are counted in an open-addressing table
+ * keyed by that hash. A hash match is confirmed by comparing IDs with the phrase's first
+ * occurrence, so collisions never merge different phrases. Phrase text is only built on
+ * request.
+ */
+public final class PhraseCounts {
+
+    public static final int MIN_LENGTH = 2;
+    public static final int MAX_LENGTH = 3;
+
+    private static final long BASE = 0x9E3779B97F4A7C15L;
+
+    private final TermCounts termCounts;
+
+    // Phrase i starts at starts[i] in the term sequence and spans lengths[i] terms
+    private long[] hashes = new long[64];
+    private int[] starts = new int[64];
+    private int[] lengths = new int[64];
+    private int[] counts = new int[64];
+    private int size;
+
+    private int[] slots = new int[128]; // phrase index + 1, or 0 for an empty slot
+
+    private PhraseCounts(TermCounts termCounts) {
+        this.termCounts = termCounts;
+    }
+
+    public static PhraseCounts of(TermCounts termCounts) {
+        PhraseCounts phrases = new PhraseCounts(termCounts);
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            phrases.countWindows(length);
+        }
+        return phrases;
+    }
+
+    private void countWindows(int length) {
+        long dropFactor = 1; // BASE^length, removes the ID leaving the window
+        for (int i = 0; i < length; i++) {
+            dropFactor *= BASE;
+        }
+
+        long hash = 0;
+        int run = 0;
+        for (int position = 0; position < termCounts.sequenceLength(); position++) {
+            int id = termCounts.sequenceAt(position);
+            if (id == TermCounts.BREAK) {
+                hash = 0;
+                run = 0;
+                continue;
+            }
+
+            hash = hash * BASE + id + 1;
+            run++;
+            if (run > length) {
+                hash -= (termCounts.sequenceAt(position - length) + 1L) * dropFactor;
+            }
+            if (run >= length) {
+                add(hash, position - length + 1, length);
+            }
+        }
+    }
+
+    private void add(long hash, int start, int length) {
+        int index = find(hash, start, length);
+        if (index >= 0) {
+            counts[index]++;
+            return;
+        }
+
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        if (size == hashes.length) {
+            int grown = size * 2;
+            hashes = Arrays.copyOf(hashes, grown);
+            starts = Arrays.copyOf(starts, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+            counts = Arrays.copyOf(counts, grown);
+        }
+
+        index = size++;
+        hashes[index] = hash;
+        starts[index] = start;
+        lengths[index] = length;
+        counts[index] = 1;
+        slots[freeSlot(hash)] = index + 1;
+    }
+
+    // Index of the phrase equal to the window at start, or -1
+    private int find(long hash, int start, int length) {
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && lengths[index] == length && sameTerms(starts[index], start, length)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private boolean sameTerms(int first, int second, int length) {
+        for (int i = 0; i < length; i++) {
+            if (termCounts.sequenceAt(first + i) != termCounts.sequenceAt(second + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int freeSlot(long hash) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int index = 0; index < size; index++) {
+            slots[freeSlot(hashes[index])] = index + 1;
+        }
+    }
+
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /** Occurrences of a space-separated phrase of content words, 0 when it never occurs. */
+    public int count(String phrase) {
+        String[] words = phrase.split(" ");
+        if (words.length < MIN_LENGTH || words.length > MAX_LENGTH) {
+            return 0;
+        }
+
+        long hash = 0;
+        int[] ids = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            ids[i] = termCounts.id(words[i]);
+            if (ids[i] == TermCounts.BREAK) {
+                return 0;
+            }
+            hash = hash * BASE + ids[i] + 1;
+        }
+
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int index = slots[slot] - 1;
+            if (hashes[index] == hash && lengths[index] == ids.length && matches(index, ids)) {
+                return counts[index];
+            }
+        }
+        return 0;
+    }
+
+    private boolean matches(int index, int[] ids) {
+        for (int i = 0; i < ids.length; i++) {
+            if (termCounts.sequenceAt(starts[index] + i) != ids[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Share of all words in the document taken by occurrences of the phrase. */
+    public double density(String phrase) {
+        int totalWords = termCounts.getTotalWords();
+        return totalWords == 0 ? 0 : (double) count(phrase) / totalWords;
+    }
+
+    public int size() { return size; }
+
+    // Phrases are numbered 0..size()-1, bigrams first, each in order of first appearance
+    public String phrase(int index) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < lengths[index]; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(termCounts.term(termCounts.sequenceAt(starts[index] + i)));
+        }
+        return phrase.toString();
+    }
+
+    public int countAt(int index) { return counts[index]; }
+
+    public int lengthAt(int index) { return lengths[index]; }
+}
@@ -3,138 +3,143 @@ package com.group4.vibeWrite.SeoAnalyst.service;
 import com.group4.vibeWrite.SeoAnalyst.model.Keyword;
 import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
 import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysisRequest;
-import com.group4.vibeWrite.SeoAnalyst.repository.SeoAnalysisRepository;
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TextScanner;
+import com.group4.vibeWrite.Util.TopK;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class SeoAnalyzerService {
 
-    private final SeoAnalysisRepository seoAnalysisRepository;
+    private final MongoTemplate mongoTemplate;
+    private final CorpusIndexService corpusIndexService;
+    private final SeoResultCache seoResultCache;
 
-    // Common English stop words
-    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+    public static final int DEFAULT_KEYWORD_LIMIT = 5;
+    public static final int MAX_KEYWORD_LIMIT = 50;
+
+    private static final int META_DESCRIPTION_MAX_LENGTH = 160;
+
+    // A phrase must recur to be a key phrase rather than a chance word pairing
+    static final int MIN_PHRASE_OCCURRENCES = 2;
+
+    // Common English stop words; they also split key phrases, here and in the corpus index
+    static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
             "a", "an", "the", "in", "on", "at", "and", "or", "to", "for", "with", "about",
             "your", "by", "is", "of", "from", "into", "as", "that", "this", "it", "its",
             "i", "we", "you", "he", "she", "they", "them", "their", "our", "my", "your",
             "his", "her", "can", "will", "be", "have", "do", "would", "should"
     ));
 
-    public SeoAnalyzerService(SeoAnalysisRepository seoAnalysisRepository) {
-        this.seoAnalysisRepository = seoAnalysisRepository;
+    public SeoAnalyzerService(MongoTemplate mongoTemplate, CorpusIndexService corpusIndexService,
+                              SeoResultCache seoResultCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.corpusIndexService = corpusIndexService;
+        this.seoResultCache = seoResultCache;
     }
 
     public SeoAnalysis analyze(SeoAnalysisRequest request) {
         String content = request.getContent();
+        SeoAnalysis analysis = compute(request.getDocumentId(), request.getUserId(), content,
+                keywordLimit(request.getKeywordLimit()));
+
+        // Replacing and reading the old content in one operation keeps concurrent saves of the
+        // same document from being indexed against content that was already replaced
+        Query query = Query.query(Criteria.where("_id").is(request.getDocumentId()));
+        query.fields().include("content");
+        SeoAnalysis previous = mongoTemplate.findAndReplace(query, analysis, FindAndReplaceOptions.options().upsert());
+        if (previous != null) {
+            corpusIndexService.recordReplace(previous.getContent(), content);
+        } else {
+            corpusIndexService.recordInsert(content);
+        }
+        seoResultCache.put(analysis);
+        return analysis;
+    }
 
-        // 1. Keyword Extraction (TF-IDF)
-        Map<String, Double> keywordScores = getTfIdfScores(content);
+    /**
+     * Builds a server-side analysis of the content without storing it or touching the corpus
+     * index, so it can be run in parallel by bulk re-analysis.
+     */
+    public SeoAnalysis compute(String documentId, String userId, String content, int keywordLimit) {
+        // One scan feeds TF, keyword density, recommendations and the meta description
+        TextScan scan = TextScanner.scan(content);
+        TermCounts termCounts = TermCounts.of(scan, STOP_WORDS);
+        PhraseCounts phraseCounts = PhraseCounts.of(termCounts);
+
+        // 1. Keyword Extraction (TF-IDF over words and recurring phrases)
+        Map<String, Double> keywordScores = getTfIdfScores(termCounts, phraseCounts);
         List<Keyword> keywords = new ArrayList<>();
-        keywordScores.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(5)
-                .forEach(entry -> keywords.add(new Keyword(entry.getKey(), entry.getValue())));
+        for (Map.Entry<String, Double> entry : TopK.largestByValue(keywordScores, keywordLimit)) {
+            keywords.add(new Keyword(entry.getKey(), entry.getValue()));
+        }
 
-        // 2. Meta Description Generation (first 2 sentences)
-        String metaDescription = generateMetaDescription(content, keywordScores);
+        // 2. Meta Description Generation (best-scoring sentences within the length limit)
+        String metaDescription = MetaDescriptionGenerator.generate(content, scan, keywordScores, META_DESCRIPTION_MAX_LENGTH);
 
         // 3. Build final analysis object
         SeoAnalysis analysis = new SeoAnalysis();
-        analysis.setDocumentId(request.getDocumentId());
-        analysis.setUserId(request.getUserId());  // Set userId from request
+        analysis.setDocumentId(documentId);
+        analysis.setUserId(userId);
         analysis.setContent(content);
         analysis.setKeywords(keywords);
         analysis.setMetaDescription(metaDescription);
         analysis.setScore(calculateSeoScore(keywords, metaDescription));
-        analysis.setRecommendations(generateRecommendations(analysis));
+        analysis.setRecommendations(generateRecommendations(analysis, termCounts, phraseCounts));
+        analysis.setSource("server");
+        analysis.setKeywordLimit(keywordLimit);
+        analysis.setContentHash(SeoResultCache.contentHash(content, keywordLimit));
+        return analysis;
+    }
 
-        return seoAnalysisRepository.save(analysis);
+    // Requested number of top keywords, clamped to [1, MAX_KEYWORD_LIMIT]
+    public static int keywordLimit(Integer requested) {
+        if (requested == null) {
+            return DEFAULT_KEYWORD_LIMIT;
+        }
+        return Math.max(1, Math.min(MAX_KEYWORD_LIMIT, requested));
     }
 
-    private Map<String, Double> getTfIdfScores(String content) {
-        Map<String, Double> tfScores = calculateTf(content);
-        List<SeoAnalysis> allAnalyses = seoAnalysisRepository.findAll();
-        long totalDocuments = allAnalyses.size();
+    private Map<String, Double> getTfIdfScores(TermCounts termCounts, PhraseCounts phraseCounts) {
+        Map<String, Double> tfScores = calculateTf(termCounts, phraseCounts);
+        long totalDocuments = corpusIndexService.totalDocuments();
 
         // If not enough documents exist for meaningful IDF, return TF scores directly.
         if (totalDocuments == 0) {
             return tfScores;
         }
 
-        Map<String, Double> idfScores = calculateIdf(tfScores.keySet(), allAnalyses);
+        // Document frequencies come from the in-memory mirror of the term index
         Map<String, Double> tfidfScores = new HashMap<>();
 
-        for (String term : tfScores.keySet()) {
-            double tfidf = tfScores.get(term) * idfScores.getOrDefault(term, 0.0);
-            tfidfScores.put(term, tfidf);
+        for (Map.Entry<String, Double> entry : tfScores.entrySet()) {
+            int documentsWithTerm = corpusIndexService.documentFrequency(entry.getKey());
+            double idf = Math.log((double) totalDocuments / (documentsWithTerm + 1));
+            tfidfScores.put(entry.getKey(), entry.getValue() * idf);
         }
         return tfidfScores;
     }
 
-    private Map<String, Double> calculateTf(String content) {
+    private Map<String, Double> calculateTf(TermCounts termCounts, PhraseCounts phraseCounts) {
         Map<String, Double> tfScores = new HashMap<>();
-        String[] tokens = content.toLowerCase().split("\\s+");
-
-        List<String> cleanedTokens = Arrays.stream(tokens)
-                .map(token -> token.replaceAll("[^a-zA-Z]", "")) // Remove punctuation
-                .filter(token -> !token.isEmpty())
-                .filter(token -> !STOP_WORDS.contains(token))
-                .collect(Collectors.toList());
-
-        long totalCleanedWords = cleanedTokens.size();
+        int totalCleanedWords = termCounts.getContentWords();
         if (totalCleanedWords == 0) return tfScores;
 
-        Set<String> uniqueWords = new HashSet<>(cleanedTokens);
-        for (String word : uniqueWords) {
-            long count = cleanedTokens.stream().filter(word::equals).count();
-            tfScores.put(word, (double) count / totalCleanedWords);
+        for (int id = 0; id < termCounts.distinctTerms(); id++) {
+            tfScores.put(termCounts.term(id), (double) termCounts.countAt(id) / totalCleanedWords);
         }
-        return tfScores;
-    }
-
-    private Map<String, Double> calculateIdf(Set<String> terms, List<SeoAnalysis> allAnalyses) {
-        Map<String, Double> idfScores = new HashMap<>();
-        long totalDocuments = allAnalyses.size();
-
-        for (String term : terms) {
-            long documentsWithTerm = allAnalyses.stream()
-                    .filter(analysis -> analysis.getContent() != null && analysis.getContent().toLowerCase().contains(term))
-                    .count();
-            double idf = Math.log((double) totalDocuments / (documentsWithTerm + 1));
-            idfScores.put(term, idf);
-        }
-        return idfScores;
-    }
-
-    private String generateMetaDescription(String content, Map<String, Double> keywordScores) {
-        // Split content into sentences using punctuation
-        String[] sentences = content.split("(?<=[.!?])\\s+");
-
-        Map<String, Double> sentenceScores = new HashMap<>();
-        for (String sentence : sentences) {
-            double score = Arrays.stream(sentence.toLowerCase().split("\\s+"))
-                    .mapToDouble(word -> keywordScores.getOrDefault(word.replaceAll("[^a-zA-Z]", ""), 0.0))
-                    .sum();
-            sentenceScores.put(sentence, score);
-        }
-
-        List<String> sortedSentences = sentenceScores.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        StringBuilder summary = new StringBuilder();
-        int maxLength = 160;
-        for (String sentence : sortedSentences) {
-            if (summary.length() + sentence.length() <= maxLength) {
-                summary.append(sentence).append(" ");
-            } else {
-                break;
+        for (int index = 0; index < phraseCounts.size(); index++) {
+            if (phraseCounts.countAt(index) >= MIN_PHRASE_OCCURRENCES) {
+                tfScores.put(phraseCounts.phrase(index), (double) phraseCounts.countAt(index) / totalCleanedWords);
             }
         }
-        return summary.toString().trim();
+        return tfScores;
     }
 
     private double calculateSeoScore(List<Keyword> keywords, String metaDescription) {
@@ -156,7 +161,7 @@ public class SeoAnalyzerService {
         return Math.min(100, keywordScore + metaDescriptionScore);
     }
 
-    private List<String> generateRecommendations(SeoAnalysis analysis) {
+    private List<String> generateRecommendations(SeoAnalysis analysis, TermCounts termCounts, PhraseCounts phraseCounts) {
         List<String> recommendations = new ArrayList<>();
 
         if (analysis.getMetaDescription().length() < 50)
@@ -172,10 +177,10 @@ public class SeoAnalyzerService {
         if (analysis.getContent().length() < 500)
             recommendations.add("Your content seems short. Aim for more in-depth content to improve authority.");
 
-        long totalWords = Arrays.stream(analysis.getContent().split("\\s+")).count();
         double topKeywordDensity = analysis.getKeywords().stream()
-                .mapToDouble(keyword -> (double) Collections.frequency(Arrays.asList(analysis.getContent().toLowerCase().split("\\s+")),
-                        keyword.getTerm().toLowerCase()) / totalWords)
+                .mapToDouble(keyword -> keyword.getTerm().indexOf(' ') >= 0
+                        ? phraseCounts.density(keyword.getTerm())
+                        : termCounts.density(keyword.getTerm()))
                 .sum();
         if (topKeywordDensity > 0.03)
             recommendations.add("Be careful of keyword stuffing. Your top keywords have a high density.");
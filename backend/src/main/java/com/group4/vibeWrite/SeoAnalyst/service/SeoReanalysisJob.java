@@ -0,0 +1,286 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoReanalysisCheckpoint;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoReanalysisCheckpoint.Status;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Background job that re-scores every server-side SEO analysis against the current corpus
+ * statistics.
+ *
+ * Analyses are read in _id order, one keyset page at a time. Each batch is recomputed in
+ * parallel on the seoReanalysisExecutor and written back with one unordered bulk update.
+ * After every batch the cursor and counters are saved to a checkpoint document, so a pause,
+ * failure or restart resumes where it stopped. A configurable delay between batches keeps
+ * the job from starving request traffic. Client AI analyses are left alone, and an analysis
+ * edited while its batch was computing is not overwritten.
+ *
+ * The checkpoint doubles as a lease, so only one instance runs the job at a time. Starting
+ * takes it with a conditional update, the owner renews its heartbeat with every batch, and
+ * a run whose heartbeat is older than the lease timeout is treated as dead. Pause requests
+ * are stored on the checkpoint, so any instance can pause the run.
+ */
+@Slf4j
+@Service
+public class SeoReanalysisJob {
+
+    private final MongoTemplate mongoTemplate;
+    private final SeoAnalyzerService seoAnalyzerService;
+    private final SeoResultCache seoResultCache;
+    private final Executor seoReanalysisExecutor;
+    private final int batchSize;
+    private final long batchDelayMs;
+    private final long leaseTimeoutMs;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public SeoReanalysisJob(MongoTemplate mongoTemplate,
+                            SeoAnalyzerService seoAnalyzerService,
+                            SeoResultCache seoResultCache,
+                            @Qualifier("seoReanalysisExecutor") Executor seoReanalysisExecutor,
+                            @Value("${vibewrite.seo.reanalysis.batch-size:200}") int batchSize,
+                            @Value("${vibewrite.seo.reanalysis.batch-delay-ms:250}") long batchDelayMs,
+                            @Value("${vibewrite.seo.reanalysis.lease-timeout-ms:120000}") long leaseTimeoutMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.seoAnalyzerService = seoAnalyzerService;
+        this.seoResultCache = seoResultCache;
+        this.seoReanalysisExecutor = seoReanalysisExecutor;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchDelayMs = batchDelayMs;
+        this.leaseTimeoutMs = leaseTimeoutMs;
+    }
+
+    /**
+     * Starts the job, or resumes it from its checkpoint when it was paused, failed or its
+     * owner died. A completed run, or any run when restart is set, starts over from the first
+     * analysis. Returns the current status unchanged when a live run holds the lease.
+     */
+    public SeoReanalysisCheckpoint start(boolean restart) {
+        SeoReanalysisCheckpoint current = status();
+        LocalDateTime now = LocalDateTime.now();
+
+        Update update = new Update()
+                .set("status", Status.RUNNING)
+                .set("owner", instanceId)
+                .set("heartbeatAt", now)
+                .set("pauseRequested", false)
+                .set("lastError", null)
+                .set("updatedAt", now);
+        if (restart || current.getStatus() == Status.IDLE || current.getStatus() == Status.COMPLETED) {
+            update.set("lastDocumentId", null)
+                    .set("processed", 0L)
+                    .set("updated", 0L)
+                    .set("failed", 0L)
+                    .set("startedAt", now)
+                    .set("totalDocuments", mongoTemplate.count(eligibleQuery(), SeoAnalysis.class));
+        }
+
+        SeoReanalysisCheckpoint checkpoint;
+        try {
+            checkpoint = mongoTemplate.findAndModify(leaseAvailable(now), update,
+                    FindAndModifyOptions.options().upsert(true).returnNew(true), SeoReanalysisCheckpoint.class);
+        } catch (DuplicateKeyException e) {
+            // The checkpoint exists but a live run holds it
+            return status();
+        }
+
+        Thread worker = new Thread(() -> run(checkpoint), "seo-reanalysis");
+        worker.setDaemon(true);
+        worker.start();
+
+        log.info("SEO re-analysis started from {}", checkpoint.getLastDocumentId() != null
+                ? "document " + checkpoint.getLastDocumentId() : "the beginning");
+        return checkpoint;
+    }
+
+    // Stops the job after the batch in flight, whichever instance runs it; start() resumes it
+    public SeoReanalysisCheckpoint pause() {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(SeoReanalysisCheckpoint.JOB_ID).and("status").is(Status.RUNNING)),
+                new Update().set("pauseRequested", true), SeoReanalysisCheckpoint.class);
+        return status();
+    }
+
+    public SeoReanalysisCheckpoint status() {
+        SeoReanalysisCheckpoint checkpoint = mongoTemplate.findById(SeoReanalysisCheckpoint.JOB_ID, SeoReanalysisCheckpoint.class);
+        if (checkpoint == null) {
+            checkpoint = new SeoReanalysisCheckpoint();
+            checkpoint.setId(SeoReanalysisCheckpoint.JOB_ID);
+            checkpoint.setStatus(Status.IDLE);
+        }
+        return checkpoint;
+    }
+
+    // A run still marked RUNNING with a dead heartbeat was cut off by a shutdown; leave it resumable
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedRun() {
+        Query query = leaseAvailable(LocalDateTime.now()).addCriteria(Criteria.where("status").is(Status.RUNNING));
+        SeoReanalysisCheckpoint checkpoint = mongoTemplate.findAndModify(query,
+                new Update().set("status", Status.PAUSED).set("updatedAt", LocalDateTime.now()),
+                SeoReanalysisCheckpoint.class);
+        if (checkpoint != null) {
+            log.info("SEO re-analysis was interrupted at document {}, paused for resume", checkpoint.getLastDocumentId());
+        }
+    }
+
+    private void run(SeoReanalysisCheckpoint checkpoint) {
+        try {
+            while (true) {
+                List<SeoAnalysis> batch = nextBatch(checkpoint.getLastDocumentId());
+                if (batch.isEmpty()) {
+                    checkpoint.setStatus(Status.COMPLETED);
+                    break;
+                }
+
+                processBatch(batch, checkpoint);
+                checkpoint.setLastDocumentId(batch.get(batch.size() - 1).getDocumentId());
+                SeoReanalysisCheckpoint saved = saveProgress(checkpoint);
+                if (saved == null) {
+                    log.warn("SEO re-analysis lost its lease after document {}, stopping", checkpoint.getLastDocumentId());
+                    return;
+                }
+                if (saved.isPauseRequested()) {
+                    checkpoint.setStatus(Status.PAUSED);
+                    break;
+                }
+
+                if (batchDelayMs > 0) {
+                    Thread.sleep(batchDelayMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            checkpoint.setStatus(Status.PAUSED);
+        } catch (RuntimeException e) {
+            log.error("SEO re-analysis failed after document {}: ", checkpoint.getLastDocumentId(), e);
+            checkpoint.setStatus(Status.FAILED);
+            checkpoint.setLastError(e.getMessage());
+        }
+
+        mongoTemplate.updateFirst(ownedCheckpoint(), new Update()
+                        .set("status", checkpoint.getStatus())
+                        .set("lastError", checkpoint.getLastError())
+                        .set("updatedAt", LocalDateTime.now()),
+                SeoReanalysisCheckpoint.class);
+        log.info("SEO re-analysis {}: {} processed, {} updated, {} failed", checkpoint.getStatus(),
+                checkpoint.getProcessed(), checkpoint.getUpdated(), checkpoint.getFailed());
+    }
+
+    // Saves the cursor and counters and renews the lease; null when another instance took it over
+    private SeoReanalysisCheckpoint saveProgress(SeoReanalysisCheckpoint checkpoint) {
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("lastDocumentId", checkpoint.getLastDocumentId())
+                .set("processed", checkpoint.getProcessed())
+                .set("updated", checkpoint.getUpdated())
+                .set("failed", checkpoint.getFailed())
+                .set("heartbeatAt", now)
+                .set("updatedAt", now);
+        return mongoTemplate.findAndModify(ownedCheckpoint(), update,
+                FindAndModifyOptions.options().returnNew(true), SeoReanalysisCheckpoint.class);
+    }
+
+    private Query ownedCheckpoint() {
+        return Query.query(Criteria.where("_id").is(SeoReanalysisCheckpoint.JOB_ID).and("owner").is(instanceId));
+    }
+
+    // The checkpoint is free unless a run holds it with a heartbeat inside the lease timeout
+    private Query leaseAvailable(LocalDateTime now) {
+        return Query.query(Criteria.where("_id").is(SeoReanalysisCheckpoint.JOB_ID).orOperator(
+                Criteria.where("status").ne(Status.RUNNING),
+                Criteria.where("heartbeatAt").exists(false),
+                Criteria.where("heartbeatAt").lt(now.minusNanos(leaseTimeoutMs * 1_000_000))));
+    }
+
+    private List<SeoAnalysis> nextBatch(String lastDocumentId) {
+        Query query = eligibleQuery();
+        if (lastDocumentId != null) {
+            query.addCriteria(Criteria.where("_id").gt(lastDocumentId));
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize);
+        query.fields().include("userId", "content", "keywordLimit", "contentHash");
+        return mongoTemplate.find(query, SeoAnalysis.class);
+    }
+
+    private void processBatch(List<SeoAnalysis> batch, SeoReanalysisCheckpoint checkpoint) {
+        List<CompletableFuture<SeoAnalysis>> futures = new ArrayList<>(batch.size());
+        for (SeoAnalysis stored : batch) {
+            futures.add(CompletableFuture.supplyAsync(() -> reanalyze(stored), seoReanalysisExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Failed to re-analyze SEO document {}: ", stored.getDocumentId(), e);
+                        return null;
+                    }));
+        }
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SeoAnalysis.class);
+        int writes = 0;
+        long failed = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            SeoAnalysis fresh = futures.get(i).join();
+            if (fresh == null) {
+                failed++;
+                continue;
+            }
+
+            // Only replace the version that was read; a concurrent edit or client ingest wins
+            Query query = Query.query(Criteria.where("_id").is(fresh.getDocumentId())
+                    .and("contentHash").is(batch.get(i).getContentHash())
+                    .and("source").ne("client_ai"));
+            Update update = new Update()
+                    .set("keywords", fresh.getKeywords())
+                    .set("metaDescription", fresh.getMetaDescription())
+                    .set("score", fresh.getScore())
+                    .set("recommendations", fresh.getRecommendations())
+                    .set("keywordLimit", fresh.getKeywordLimit())
+                    .set("contentHash", fresh.getContentHash())
+                    .set("source", fresh.getSource());
+            bulkOps.updateOne(query, update);
+            writes++;
+        }
+
+        if (writes > 0) {
+            BulkWriteResult result = bulkOps.execute();
+            checkpoint.setUpdated(checkpoint.getUpdated() + result.getModifiedCount());
+            batch.forEach(stored -> seoResultCache.evict(stored.getDocumentId()));
+        }
+        checkpoint.setProcessed(checkpoint.getProcessed() + batch.size());
+        checkpoint.setFailed(checkpoint.getFailed() + failed);
+    }
+
+    private SeoAnalysis reanalyze(SeoAnalysis stored) {
+        if (stored.getContent() == null) {
+            throw new IllegalArgumentException("Analysis has no content");
+        }
+        // Keep the keyword limit the analysis was requested with, so its cache key is unchanged;
+        // analyses stored before the limit was recorded all used the default
+        return seoAnalyzerService.compute(stored.getDocumentId(), stored.getUserId(), stored.getContent(),
+                SeoAnalyzerService.keywordLimit(stored.getKeywordLimit()));
+    }
+
+    // Server analyses only; older documents without a source were all produced by the server
+    private Query eligibleQuery() {
+        return Query.query(Criteria.where("source").ne("client_ai"));
+    }
+}
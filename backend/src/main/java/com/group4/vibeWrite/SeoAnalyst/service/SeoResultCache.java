@@ -0,0 +1,86 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.Config.CacheConfig;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.group4.vibeWrite.SeoAnalyst.repository.SeoAnalysisRepository;
+import com.group4.vibeWrite.Util.ContentHasher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Two-tier lookup of stored SEO analyses by document ID and content hash.
+ *
+ * The hot tier is a Caffeine cache holding the latest analysis per document, and Mongo is
+ * the tier behind it. An entry is only a hit when its content hash matches the request, so
+ * an edited document misses on both tiers and is re-analyzed, while unchanged content is
+ * never recomputed. Lookups are counted by outcome in vibewrite.seo.cache.requests.
+ */
+@Service
+public class SeoResultCache {
+
+    private final SeoAnalysisRepository seoAnalysisRepository;
+    private final Cache hotTier;
+
+    private final Counter memoryHits;
+    private final Counter mongoHits;
+    private final Counter misses;
+
+    public SeoResultCache(SeoAnalysisRepository seoAnalysisRepository, CacheManager cacheManager,
+                          MeterRegistry meterRegistry) {
+        this.seoAnalysisRepository = seoAnalysisRepository;
+        this.hotTier = cacheManager.getCache(CacheConfig.SEO_RESULT_CACHE);
+
+        this.memoryHits = requestCounter(meterRegistry, "memory_hit");
+        this.mongoHits = requestCounter(meterRegistry, "mongo_hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+    }
+
+    // Hash of the content and the options that shape the analysis
+    public static String contentHash(String content, int keywordLimit) {
+        return ContentHasher.sha256(content, "keywords=" + keywordLimit);
+    }
+
+    public Optional<SeoAnalysis> find(String documentId, String contentHash) {
+        SeoAnalysis cached = hotTier != null ? hotTier.get(documentId, SeoAnalysis.class) : null;
+        if (cached != null && contentHash.equals(cached.getContentHash())) {
+            memoryHits.increment();
+            return Optional.of(cached);
+        }
+
+        Optional<SeoAnalysis> stored = seoAnalysisRepository.findById(documentId)
+                .filter(analysis -> contentHash.equals(analysis.getContentHash()));
+        if (stored.isPresent()) {
+            mongoHits.increment();
+            put(stored.get());
+        } else {
+            misses.increment();
+        }
+        return stored;
+    }
+
+    // Replaces the document's hot entry; called after every save
+    public void put(SeoAnalysis analysis) {
+        if (hotTier != null) {
+            hotTier.put(analysis.getDocumentId(), analysis);
+        }
+    }
+
+    // Drops the document's hot entry after it was updated in Mongo behind the cache
+    public void evict(String documentId) {
+        if (hotTier != null) {
+            hotTier.evict(documentId);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("vibewrite.seo.cache.requests")
+                .description("SEO analysis lookups by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TextScanner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Occurrence counts of every content token in a document, gathered in one scan.
+ *
+ * Each distinct token is given a dense ID on first sight and its count lives in a primitive
+ * int array, so counting is a single hash lookup and array increment per word. TF, keyword
+ * density and recommendations all read from the same counts instead of re-splitting the text.
+ * The document is also kept as a sequence of term IDs, with {@link #BREAK} wherever a stop
+ * word or sentence end interrupts a run of content words, for phrase extraction.
+ */
+public final class TermCounts {
+
+    public static final int BREAK = -1;
+
+    private final Map<String, Integer> termIds;
+    private final String[] terms;
+    private final int[] counts;
+    private final int[] sequence;
+    private final int totalWords;
+    private final int contentWords;
+
+    private TermCounts(Map<String, Integer> termIds, String[] terms, int[] counts, int[] sequence,
+                       int totalWords, int contentWords) {
+        this.termIds = termIds;
+        this.terms = terms;
+        this.counts = counts;
+        this.sequence = sequence;
+        this.totalWords = totalWords;
+        this.contentWords = contentWords;
+    }
+
+    /** Counts the letter tokens of the content, skipping stop words. */
+    public static TermCounts of(String content, Set<String> stopWords) {
+        return of(TextScanner.scan(content == null ? "" : content), stopWords);
+    }
+
+    /** Counts the tokens of an existing scan, which must have been run with tokens. */
+    public static TermCounts of(TextScan scan, Set<String> stopWords) {
+        int wordCount = scan.getWordCount();
+        int sentenceCount = scan.getSentenceCount();
+
+        Map<String, Integer> termIds = new HashMap<>();
+        String[] terms = new String[16];
+        int[] counts = new int[16];
+        int[] sequence = new int[wordCount + sentenceCount];
+        int length = 0;
+        int contentWords = 0;
+
+        // Every word belongs to exactly one sentence, so walking sentences visits each word once
+        int word = 0;
+        for (int s = 0; s < sentenceCount; s++) {
+            for (int end = word + scan.sentenceWordCount(s); word < end; word++) {
+                String token = scan.token(word);
+                if (token.isEmpty() || stopWords.contains(token)) {
+                    sequence[length++] = BREAK;
+                    continue;
+                }
+                contentWords++;
+
+                Integer id = termIds.get(token);
+                if (id == null) {
+                    id = termIds.size();
+                    if (id == terms.length) {
+                        terms = Arrays.copyOf(terms, id * 2);
+                        counts = Arrays.copyOf(counts, id * 2);
+                    }
+                    termIds.put(token, id);
+                    terms[id] = token;
+                }
+                counts[id]++;
+                sequence[length++] = id;
+            }
+            sequence[length++] = BREAK;
+        }
+
+        return new TermCounts(termIds, terms, counts, sequence, wordCount, contentWords);
+    }
+
+    // Dense ID of the term, or BREAK when it does not occur
+    public int id(String term) {
+        Integer id = termIds.get(term);
+        return id != null ? id : BREAK;
+    }
+
+    public int count(String term) {
+        Integer id = termIds.get(term);
+        return id != null ? counts[id] : 0;
+    }
+
+    /** Share of the non-stop-word tokens taken by the term. */
+    public double termFrequency(String term) {
+        return contentWords == 0 ? 0 : (double) count(term) / contentWords;
+    }
+
+    /** Share of all words in the document taken by the term. */
+    public double density(String term) {
+        return totalWords == 0 ? 0 : (double) count(term) / totalWords;
+    }
+
+    public int distinctTerms() { return termIds.size(); }
+
+    // Terms are numbered 0..distinctTerms()-1 in order of first appearance
+    public String term(int id) { return terms[id]; }
+
+    public int countAt(int id) { return counts[id]; }
+
+    /** Term IDs in document order, BREAK at stop words and sentence ends. */
+    public int sequenceLength() { return sequence.length; }
+
+    public int sequenceAt(int position) { return sequence[position]; }
+
+    public int getTotalWords() { return totalWords; }
+
+    public int getContentWords() { return contentWords; }
+}
@@ -0,0 +1,289 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact in-memory term → document-frequency table for SEO scoring.
+ *
+ * Each term gets a dense int ID the first time it is seen. Term characters are packed end
+ * to end in one char array, and hashes and frequencies are parallel int arrays indexed by
+ * ID, looked up through an open-addressing slot table. A term costs its characters plus a
+ * few ints, with no per-entry objects or boxed counts for the GC to trace.
+ * Reads share a lock; updates take it exclusively.
+ *
+ * The dictionary also carries the index version and change count it reflects, so a snapshot
+ * can be checked against the index before it is trusted.
+ */
+class TermDictionary {
+
+    private static final int MAGIC = 0x53454F54; // "SEOT"
+    private static final int VERSION = 3;
+
+    // Change count of a dictionary that may have missed an index write
+    static final long UNKNOWN_CHANGES = -1;
+    private static final int INITIAL_TERMS = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private char[] characters = new char[INITIAL_TERMS * 8];
+    private int characterCount;
+    private int[] offsets = new int[INITIAL_TERMS + 1]; // term i is characters[offsets[i], offsets[i + 1])
+    private int[] hashes = new int[INITIAL_TERMS];
+    private int[] frequencies = new int[INITIAL_TERMS];
+    private int size;
+
+    private int[] slots = new int[INITIAL_TERMS * 2]; // term ID + 1, or 0 for an empty slot
+
+    private long totalDocuments;
+    private long changeCount;
+    private int indexVersion;
+
+    public int documentFrequency(String term) {
+        lock.readLock().lock();
+        try {
+            int id = find(term, hash(term));
+            return id >= 0 ? frequencies[id] : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getTotalDocuments() {
+        lock.readLock().lock();
+        try {
+            return totalDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getIndexVersion() {
+        lock.readLock().lock();
+        try {
+            return indexVersion;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void setIndexVersion(int indexVersion) {
+        lock.writeLock().lock();
+        try {
+            this.indexVersion = indexVersion;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long getChangeCount() {
+        lock.readLock().lock();
+        try {
+            return changeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies one index write: frequency deltas per term and newly counted documents.
+     * changeCount is the index's count after that write; when it is not the next one after
+     * ours, another writer changed the index in between and the dictionary is marked unknown.
+     */
+    public void applyChange(Map<String, Integer> deltas, long addedDocuments, long changeCount) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, Integer> entry : deltas.entrySet()) {
+                int id = idFor(entry.getKey());
+                frequencies[id] = Math.max(0, frequencies[id] + entry.getValue());
+            }
+            totalDocuments += addedDocuments;
+            this.changeCount = this.changeCount != UNKNOWN_CHANGES && changeCount == this.changeCount + 1
+                    ? changeCount : UNKNOWN_CHANGES;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setDocumentFrequency(String term, int frequency) {
+        lock.writeLock().lock();
+        try {
+            int id = idFor(term);
+            frequencies[id] = frequency;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setChangeCount(long changeCount) {
+        lock.writeLock().lock();
+        try {
+            this.changeCount = changeCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setTotalDocuments(long totalDocuments) {
+        lock.writeLock().lock();
+        try {
+            this.totalDocuments = totalDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the dictionary to a temporary file next to the target and moves it into place,
+     * so a crash mid-write never leaves a truncated snapshot behind.
+     */
+    public void writeSnapshot(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(indexVersion);
+            out.writeLong(changeCount);
+            out.writeLong(totalDocuments);
+            out.writeInt(size);
+            for (int id = 0; id < size; id++) {
+                int length = offsets[id + 1] - offsets[id];
+                out.writeInt(length);
+                for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+                    out.writeChar(characters[i]);
+                }
+                out.writeInt(frequencies[id]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static TermDictionary readSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unrecognised term dictionary snapshot: " + path);
+            }
+
+            TermDictionary dictionary = new TermDictionary();
+            dictionary.indexVersion = in.readInt();
+            dictionary.changeCount = in.readLong();
+            dictionary.totalDocuments = in.readLong();
+            int count = in.readInt();
+            char[] buffer = new char[64];
+            for (int n = 0; n < count; n++) {
+                int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("Corrupt term dictionary snapshot: " + path);
+                }
+                if (buffer.length < length) {
+                    buffer = new char[length];
+                }
+                for (int i = 0; i < length; i++) {
+                    buffer[i] = in.readChar();
+                }
+                int id = dictionary.idFor(new String(buffer, 0, length));
+                dictionary.frequencies[id] = in.readInt();
+            }
+            return dictionary;
+        }
+    }
+
+    // Caller must hold the write lock
+    private int idFor(String term) {
+        int hash = hash(term);
+        int id = find(term, hash);
+        if (id >= 0) {
+            return id;
+        }
+
+        if ((size + 1) * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        if (size == hashes.length) {
+            int grown = size * 2;
+            hashes = Arrays.copyOf(hashes, grown);
+            frequencies = Arrays.copyOf(frequencies, grown);
+            offsets = Arrays.copyOf(offsets, grown + 1);
+        }
+        if (characterCount + term.length() > characters.length) {
+            characters = Arrays.copyOf(characters, Math.max(characters.length * 2, characterCount + term.length()));
+        }
+
+        id = size++;
+        term.getChars(0, term.length(), characters, characterCount);
+        offsets[id] = characterCount;
+        characterCount += term.length();
+        offsets[id + 1] = characterCount;
+        hashes[id] = hash;
+        frequencies[id] = 0;
+        slots[freeSlot(hash)] = id + 1;
+        return id;
+    }
+
+    private int find(String term, int hash) {
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (hashes[id] == hash && matches(id, term)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int id, String term) {
+        int start = offsets[id];
+        if (offsets[id + 1] - start != term.length()) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            if (characters[start + i] != term.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int freeSlot(int hash) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int id = 0; id < size; id++) {
+            slots[freeSlot(hashes[id])] = id + 1;
+        }
+    }
+
+    private static int hash(String term) {
+        int h = term.hashCode();
+        return h ^ (h >>> 16);
+    }
+}
@@ -1,5 +1,6 @@
 package com.group4.vibeWrite.SeoAnalyst.service;
 
+import com.group4.vibeWrite.Util.TopK;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -14,6 +15,10 @@ public class TfIdfService {
     ));
 
     public List<String> extractKeywords(String text) {
+        return extractKeywords(text, 5);
+    }
+
+    public List<String> extractKeywords(String text, int limit) {
         if (text == null || text.trim().isEmpty()) {
             return Collections.emptyList();
         }
@@ -28,11 +33,9 @@ public class TfIdfService {
         Map<String, Long> wordCount = words.stream()
                 .collect(Collectors.groupingBy(s -> s, Collectors.counting()));
 
-        // Sort by frequency to get top keywords (simplified TF-IDF)
-        return wordCount.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+        // Select the most frequent words as top keywords (simplified TF-IDF)
+        return TopK.largestByValue(wordCount, limit).stream()
                 .map(Map.Entry::getKey)
-                .limit(5) // Get top 5 keywords
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.group4.vibeWrite.Util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Syllable counts for words the vowel-group heuristic gets wrong, loaded once from
+ * dictionaries/en-syllables.txt.
+ *
+ * The words are packed end to end in one sorted char array with an offset table, so the
+ * whole dictionary is three arrays and a lookup is a binary search over the caller's letter
+ * buffer with no allocation.
+ */
+@Slf4j
+public final class SyllableDictionary {
+
+    private static final String RESOURCE = "dictionaries/en-syllables.txt";
+
+    private static final SyllableDictionary DEFAULT = load(RESOURCE);
+
+    private final char[] words;
+    private final int[] offsets; // word i is words[offsets[i], offsets[i + 1])
+    private final byte[] syllables;
+
+    private SyllableDictionary(char[] words, int[] offsets, byte[] syllables) {
+        this.words = words;
+        this.offsets = offsets;
+        this.syllables = syllables;
+    }
+
+    public static SyllableDictionary getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the syllable count of the lowercase word in letters[0, length), or 0 when the
+     * word is not in the dictionary.
+     */
+    public int lookup(char[] letters, int length) {
+        int low = 0;
+        int high = syllables.length - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compare(mid, letters, length);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return syllables[mid];
+            }
+        }
+        return 0;
+    }
+
+    public int size() {
+        return syllables.length;
+    }
+
+    private int compare(int index, char[] letters, int length) {
+        int start = offsets[index];
+        int wordLength = offsets[index + 1] - start;
+        int common = Math.min(wordLength, length);
+
+        for (int i = 0; i < common; i++) {
+            int difference = words[start + i] - letters[i];
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return wordLength - length;
+    }
+
+    private static SyllableDictionary load(String resource) {
+        Map<String, Integer> entries = new TreeMap<>();
+
+        try (InputStream stream = SyllableDictionary.class.getClassLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                log.warn("Syllable dictionary {} not found, using the heuristic only", resource);
+            } else {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    int separator = line.indexOf(' ');
+                    entries.put(line.substring(0, separator), Integer.parseInt(line.substring(separator + 1).trim()));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load syllable dictionary {}, using the heuristic only: ", resource, e);
+            entries.clear();
+        }
+
+        int totalLength = entries.keySet().stream().mapToInt(String::length).sum();
+        char[] words = new char[totalLength];
+        int[] offsets = new int[entries.size() + 1];
+        byte[] syllables = new byte[entries.size()];
+
+        int index = 0;
+        int position = 0;
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            String word = entry.getKey();
+            word.getChars(0, word.length(), words, position);
+            offsets[index] = position;
+            syllables[index] = entry.getValue().byteValue();
+            position += word.length();
+            index++;
+        }
+        offsets[index] = position;
+
+        return new SyllableDictionary(words, offsets, syllables);
+    }
+}
@@ -0,0 +1,73 @@
+package com.group4.vibeWrite.Util;
+
+/**
+ * Result of a single {@link TextScanner} pass: word and sentence spans, per-word syllable
+ * counts and, when requested, lowercase letter-only tokens.
+ * Spans are [start, end) offsets into the scanned text.
+ */
+public final class TextScan {
+
+    private final int wordCount;
+    private final int[] wordStarts;
+    private final int[] wordEnds;
+    private final int[] wordSyllables;
+    private final String[] tokens;
+    private final int sentenceCount;
+    private final int[] sentenceStarts;
+    private final int[] sentenceEnds;
+    private final int[] sentenceWordCounts;
+    private final int syllableCount;
+    private final int letterCount;
+    private final int characterCount;
+
+    TextScan(int wordCount, int[] wordStarts, int[] wordEnds, int[] wordSyllables, String[] tokens,
+             int sentenceCount, int[] sentenceStarts, int[] sentenceEnds, int[] sentenceWordCounts,
+             int syllableCount, int letterCount, int characterCount) {
+        this.wordCount = wordCount;
+        this.wordStarts = wordStarts;
+        this.wordEnds = wordEnds;
+        this.wordSyllables = wordSyllables;
+        this.tokens = tokens;
+        this.sentenceCount = sentenceCount;
+        this.sentenceStarts = sentenceStarts;
+        this.sentenceEnds = sentenceEnds;
+        this.sentenceWordCounts = sentenceWordCounts;
+        this.syllableCount = syllableCount;
+        this.letterCount = letterCount;
+        this.characterCount = characterCount;
+    }
+
+    public int getWordCount() { return wordCount; }
+
+    public int wordStart(int index) { return wordStarts[index]; }
+
+    public int wordEnd(int index) { return wordEnds[index]; }
+
+    public int wordSyllables(int index) { return wordSyllables[index]; }
+
+    /**
+     * Lowercase letters of the word with digits and apostrophes dropped; empty for words without
+     * letters. Only available when the scan was run with tokens.
+     */
+    public String token(int index) {
+        if (tokens == null) {
+            throw new IllegalStateException("Text was scanned without tokens");
+        }
+        return tokens[index];
+    }
+
+    public int getSentenceCount() { return sentenceCount; }
+
+    public int sentenceStart(int index) { return sentenceStarts[index]; }
+
+    public int sentenceEnd(int index) { return sentenceEnds[index]; }
+
+    public int sentenceWordCount(int index) { return sentenceWordCounts[index]; }
+
+    public int getSyllableCount() { return syllableCount; }
+
+    public int getLetterCount() { return letterCount; }
+
+    /** Letters and digits across all words, excluding in-word apostrophes and separators. */
+    public int getCharacterCount() { return characterCount; }
+}
@@ -0,0 +1,225 @@
+package com.group4.vibeWrite.Util;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass tokenizer shared by grammar metrics, readability and SEO.
+ *
+ * A word is a run of letters or digits, optionally joined by an apostrophe between letters
+ * ("don't") or a point or comma between digits ("3.14"). A sentence runs from its first word to the end of the next run of . ! or ?,
+ * or to the last word of the text. The text is walked once, char by char, and the only
+ * strings created are the tokens themselves.
+ */
+public final class TextScanner {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private TextScanner() {
+    }
+
+    public static TextScan scan(String text) {
+        return scan(text, true);
+    }
+
+    public static TextScan scan(String text, boolean withTokens) {
+        int length = text.length();
+        int capacity = Math.max(INITIAL_CAPACITY, length / 5);
+
+        int[] wordStarts = new int[capacity];
+        int[] wordEnds = new int[capacity];
+        int[] wordSyllables = new int[capacity];
+        String[] tokens = withTokens ? new String[capacity] : null;
+        int wordCount = 0;
+
+        int[] sentenceStarts = new int[INITIAL_CAPACITY];
+        int[] sentenceEnds = new int[INITIAL_CAPACITY];
+        int[] sentenceWordCounts = new int[INITIAL_CAPACITY];
+        int sentenceCount = 0;
+        int sentenceStart = -1;
+        int sentenceFirstWord = 0;
+
+        int syllableCount = 0;
+        int letterTotal = 0;
+        int characterTotal = 0;
+        WordReader reader = new WordReader();
+
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                i = reader.read(text, i);
+                int letterCount = reader.letterCount;
+                char[] letters = reader.letters;
+
+                if (wordCount == wordStarts.length) {
+                    int grown = wordCount * 2;
+                    wordStarts = Arrays.copyOf(wordStarts, grown);
+                    wordEnds = Arrays.copyOf(wordEnds, grown);
+                    wordSyllables = Arrays.copyOf(wordSyllables, grown);
+                    if (tokens != null) {
+                        tokens = Arrays.copyOf(tokens, grown);
+                    }
+                }
+
+                int syllables = TextStatistics.countSyllables(letters, letterCount);
+                wordStarts[wordCount] = start;
+                wordEnds[wordCount] = i;
+                wordSyllables[wordCount] = syllables;
+                if (tokens != null) {
+                    tokens[wordCount] = letterCount > 0 ? new String(letters, 0, letterCount) : "";
+                }
+                wordCount++;
+                syllableCount += syllables;
+                letterTotal += letterCount;
+                characterTotal += letterCount + reader.digitCount;
+
+                if (sentenceStart < 0) {
+                    sentenceStart = start;
+                    sentenceFirstWord = wordCount - 1;
+                }
+                continue;
+            }
+
+            if (TextStatistics.isTerminator(c)) {
+                int end = skipTerminators(text, i);
+                if (sentenceStart >= 0) {
+                    if (sentenceCount == sentenceStarts.length) {
+                        sentenceStarts = Arrays.copyOf(sentenceStarts, sentenceCount * 2);
+                        sentenceEnds = Arrays.copyOf(sentenceEnds, sentenceCount * 2);
+                        sentenceWordCounts = Arrays.copyOf(sentenceWordCounts, sentenceCount * 2);
+                    }
+                    sentenceStarts[sentenceCount] = sentenceStart;
+                    sentenceEnds[sentenceCount] = end;
+                    sentenceWordCounts[sentenceCount] = wordCount - sentenceFirstWord;
+                    sentenceCount++;
+                    sentenceStart = -1;
+                }
+                i = end;
+                continue;
+            }
+
+            i++;
+        }
+
+        // Trailing sentence without a terminator
+        if (sentenceStart >= 0) {
+            if (sentenceCount == sentenceStarts.length) {
+                sentenceStarts = Arrays.copyOf(sentenceStarts, sentenceCount + 1);
+                sentenceEnds = Arrays.copyOf(sentenceEnds, sentenceCount + 1);
+                sentenceWordCounts = Arrays.copyOf(sentenceWordCounts, sentenceCount + 1);
+            }
+            sentenceStarts[sentenceCount] = sentenceStart;
+            sentenceEnds[sentenceCount] = wordEnds[wordCount - 1];
+            sentenceWordCounts[sentenceCount] = wordCount - sentenceFirstWord;
+            sentenceCount++;
+        }
+
+        return new TextScan(wordCount, wordStarts, wordEnds, wordSyllables, tokens,
+                sentenceCount, sentenceStarts, sentenceEnds, sentenceWordCounts, syllableCount,
+                letterTotal, characterTotal);
+    }
+
+    /**
+     * Counts what {@link TextStatistics} needs in the same pass as {@link #scan}, without
+     * recording word or sentence positions.
+     */
+    static TextStatistics count(String text) {
+        int length = text.length();
+        int words = 0;
+        int sentences = 0;
+        int syllableTotal = 0;
+        int letterTotal = 0;
+        int characterTotal = 0;
+        int polysyllables = 0;
+        boolean inSentence = false;
+        WordReader reader = new WordReader();
+
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+
+            if (Character.isLetterOrDigit(c)) {
+                i = reader.read(text, i);
+                int syllables = TextStatistics.countSyllables(reader.letters, reader.letterCount);
+                words++;
+                syllableTotal += syllables;
+                letterTotal += reader.letterCount;
+                characterTotal += reader.letterCount + reader.digitCount;
+                if (syllables >= 3) {
+                    polysyllables++;
+                }
+                inSentence = true;
+                continue;
+            }
+
+            if (TextStatistics.isTerminator(c)) {
+                if (inSentence) {
+                    sentences++;
+                    inSentence = false;
+                }
+                i = skipTerminators(text, i);
+                continue;
+            }
+
+            i++;
+        }
+
+        // Trailing sentence without a terminator
+        if (inSentence) {
+            sentences++;
+        }
+
+        return new TextStatistics(words, sentences, syllableTotal, letterTotal, characterTotal, polysyllables);
+    }
+
+    // End of the run of terminators starting at i
+    private static int skipTerminators(String text, int i) {
+        int end = i + 1;
+        while (end < text.length() && TextStatistics.isTerminator(text.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    // Reads one word, keeping its lowercase letters in a buffer reused across words
+    private static final class WordReader {
+
+        private char[] letters = new char[32];
+        private int letterCount;
+        private int digitCount;
+
+        // Reads the word starting at start and returns the index just past it
+        int read(String text, int start) {
+            int length = text.length();
+            letterCount = 0;
+            digitCount = 0;
+            int i = start;
+            while (i < length) {
+                char current = text.charAt(i);
+                if (Character.isLetterOrDigit(current)) {
+                    if (Character.isLetter(current)) {
+                        if (letterCount == letters.length) {
+                            letters = Arrays.copyOf(letters, letterCount * 2);
+                        }
+                        letters[letterCount++] = Character.toLowerCase(current);
+                    } else {
+                        digitCount++;
+                    }
+                    i++;
+                } else if (TextStatistics.isApostrophe(current) && i + 1 < length
+                        && Character.isLetter(text.charAt(i - 1)) && Character.isLetter(text.charAt(i + 1))) {
+                    i++;
+                } else if ((current == '.' || current == ',') && i + 1 < length
+                        && Character.isDigit(text.charAt(i - 1)) && Character.isDigit(text.charAt(i + 1))) {
+                    // Decimal point or thousands separator inside a number
+                    i++;
+                } else {
+                    break;
+                }
+            }
+            return i;
+        }
+    }
+}
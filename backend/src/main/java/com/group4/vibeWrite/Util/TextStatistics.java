@@ -0,0 +1,120 @@
+package com.group4.vibeWrite.Util;
+
+/**
+ * Word, sentence, syllable and letter counts for the readability formulas.
+ *
+ * The counts come from a counting-only {@link TextScanner} pass, so readability uses the
+ * same word and sentence boundaries and syllable estimate as every other consumer of the
+ * scan without building its per-word arrays. This class also holds the character rules and syllable heuristic the scanner uses.
+ */
+public final class TextStatistics {
+
+    // Lowercase ASCII vowels, including 'y'
+    private static final boolean[] VOWELS = new boolean[128];
+
+    static {
+        for (char c : "aeiouy".toCharArray()) {
+            VOWELS[c] = true;
+        }
+    }
+
+    private final int words;
+    private final int sentences;
+    private final int syllables;
+    private final int letters;
+    private final int characters;
+    private final int polysyllables;
+
+    TextStatistics(int words, int sentences, int syllables, int letters, int characters, int polysyllables) {
+        this.words = words;
+        this.sentences = sentences;
+        this.syllables = syllables;
+        this.letters = letters;
+        this.characters = characters;
+        this.polysyllables = polysyllables;
+    }
+
+    public static TextStatistics of(String text) {
+        return TextScanner.count(text);
+    }
+
+    public static TextStatistics of(TextScan scan) {
+        int polysyllables = 0;
+        for (int word = 0; word < scan.getWordCount(); word++) {
+            if (scan.wordSyllables(word) >= 3) {
+                polysyllables++;
+            }
+        }
+        return new TextStatistics(scan.getWordCount(), scan.getSentenceCount(), scan.getSyllableCount(),
+                scan.getLetterCount(), scan.getCharacterCount(), polysyllables);
+    }
+
+    /**
+     * Syllables of the lowercase word in letters[0, length): the dictionary count when the word
+     * is listed, otherwise a vowel-group estimate with silent-e and consonant-le adjustments.
+     * Every word counts at least one syllable.
+     *
+     * The estimate is the one the grammar checker always used. FleschKincaidService used to
+     * count 'y' as a consonant, give words of up to three letters one syllable and skip the
+     * -le rule, so draft readability now counts "happy", "ago" and "table" as two syllables.
+     */
+    static int countSyllables(char[] letters, int length) {
+        if (length == 0) {
+            return 1;
+        }
+
+        int listed = SyllableDictionary.getDefault().lookup(letters, length);
+        if (listed > 0) {
+            return listed;
+        }
+
+        int syllables = 0;
+        boolean previousWasVowel = false;
+        for (int i = 0; i < length; i++) {
+            boolean isVowel = isVowel(letters[i]);
+            if (isVowel && !previousWasVowel) {
+                syllables++;
+            }
+            previousWasVowel = isVowel;
+        }
+
+        // Handle silent 'e'
+        if (letters[length - 1] == 'e' && syllables > 1) {
+            syllables--;
+        }
+
+        // Handle 'le' endings after a consonant ("table", "simple")
+        if (length > 2 && letters[length - 2] == 'l' && letters[length - 1] == 'e'
+                && !isVowel(letters[length - 3])) {
+            syllables++;
+        }
+
+        return Math.max(1, syllables);
+    }
+
+    static boolean isVowel(char lower) {
+        return lower < 128 && VOWELS[lower];
+    }
+
+    static boolean isTerminator(char c) {
+        return c == '.' || c == '!' || c == '?';
+    }
+
+    static boolean isApostrophe(char c) {
+        return c == '\'' || c == '\u2019';
+    }
+
+    public int getWords() { return words; }
+
+    public int getSentences() { return sentences; }
+
+    public int getSyllables() { return syllables; }
+
+    public int getLetters() { return letters; }
+
+    /** Letters and digits, as used by the Automated Readability Index. */
+    public int getCharacters() { return characters; }
+
+    /** Words of three or more syllables, as used by Gunning Fog and SMOG. */
+    public int getPolysyllables() { return polysyllables; }
+}
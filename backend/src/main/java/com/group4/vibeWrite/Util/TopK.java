@@ -0,0 +1,45 @@
+package com.group4.vibeWrite.Util;
+
+import java.util.*;
+
+/**
+ * Selects the k largest items without sorting the whole input.
+ *
+ * Keeps a min-heap of at most k items; each new item only displaces the heap's smallest
+ * when it ranks higher, so selection costs O(n log k) time and O(k) space instead of an
+ * O(n log n) sort of everything.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /** The k largest items by the comparator, largest first. */
+    public static <T> List<T> largest(Iterable<? extends T> items, int k, Comparator<? super T> comparator) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.min(k, 64), comparator);
+        for (T item : items) {
+            if (heap.size() < k) {
+                heap.add(item);
+            } else if (comparator.compare(item, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(item);
+            }
+        }
+
+        List<T> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /** The k entries with the largest values, largest first. */
+    public static <K, V extends Comparable<? super V>> List<Map.Entry<K, V>> largestByValue(Map<K, V> map, int k) {
+        return largest(map.entrySet(), k, Map.Entry.comparingByValue());
+    }
+}
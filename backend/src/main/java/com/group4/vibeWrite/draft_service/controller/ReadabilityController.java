@@ -1,13 +1,23 @@
 package com.group4.vibeWrite.draft_service.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.group4.vibeWrite.draft_service.model.BatchReadabilityItem;
+import com.group4.vibeWrite.draft_service.model.BatchReadabilityRequest;
 import com.group4.vibeWrite.draft_service.model.ReadabilityResult;
 import com.group4.vibeWrite.draft_service.model.TextAnalysisRequest;
+import com.group4.vibeWrite.draft_service.service.BatchReadabilityService;
 import com.group4.vibeWrite.draft_service.service.FleschKincaidService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/readability")
@@ -16,6 +26,12 @@ public class ReadabilityController {
     @Autowired
     private FleschKincaidService fleschKincaidService;
 
+    @Autowired
+    private BatchReadabilityService batchReadabilityService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping("/analyze")
     public ResponseEntity<ReadabilityResult> analyzeText(@Valid @RequestBody TextAnalysisRequest request) {
         try {
@@ -26,6 +42,30 @@ public class ReadabilityController {
         }
     }
 
+    // Score many texts or drafts in one request; results stream back as NDJSON in request order
+    @PostMapping(value = "/analyze/batch", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> analyzeBatch(@RequestBody BatchReadabilityRequest request) {
+        List<CompletableFuture<BatchReadabilityItem>> items;
+        try {
+            items = batchReadabilityService.submit(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                for (CompletableFuture<BatchReadabilityItem> item : items) {
+                    writer.write(item.join());
+                    writer.flush();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Readability service is running!");
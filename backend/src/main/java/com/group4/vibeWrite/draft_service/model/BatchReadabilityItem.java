@@ -0,0 +1,34 @@
+package com.group4.vibeWrite.draft_service.model;
+
+/**
+ * One line of a batch readability response. Texts are numbered first, then draft IDs,
+ * in request order; either result or error is set.
+ */
+public class BatchReadabilityItem {
+    private int index;
+    private String draftId;
+    private ReadabilityResult result;
+    private String error;
+
+    public BatchReadabilityItem() {}
+
+    public BatchReadabilityItem(int index, String draftId, ReadabilityResult result, String error) {
+        this.index = index;
+        this.draftId = draftId;
+        this.result = result;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getDraftId() { return draftId; }
+    public void setDraftId(String draftId) { this.draftId = draftId; }
+
+    public ReadabilityResult getResult() { return result; }
+    public void setResult(ReadabilityResult result) { this.result = result; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,23 @@
+package com.group4.vibeWrite.draft_service.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchReadabilityRequest {
+
+    private List<String> texts = new ArrayList<>();
+    private List<String> draftIds = new ArrayList<>();
+
+    public BatchReadabilityRequest() {}
+
+    public BatchReadabilityRequest(List<String> texts, List<String> draftIds) {
+        this.texts = texts;
+        this.draftIds = draftIds;
+    }
+
+    public List<String> getTexts() { return texts; }
+    public void setTexts(List<String> texts) { this.texts = texts; }
+
+    public List<String> getDraftIds() { return draftIds; }
+    public void setDraftIds(List<String> draftIds) { this.draftIds = draftIds; }
+}
@@ -8,6 +8,11 @@ public class ReadabilityResult {
     private int totalSyllables;
     private double averageWordsPerSentence;
     private double averageSyllablesPerWord;
+    private double fleschReadingEase;
+    private double gunningFog;
+    private double smogIndex;
+    private double colemanLiauIndex;
+    private double automatedReadabilityIndex;
 
     public ReadabilityResult() {}
 
@@ -48,4 +53,21 @@ public class ReadabilityResult {
     public void setAverageSyllablesPerWord(double averageSyllablesPerWord) {
         this.averageSyllablesPerWord = averageSyllablesPerWord;
     }
+
+    public double getFleschReadingEase() { return fleschReadingEase; }
+    public void setFleschReadingEase(double fleschReadingEase) { this.fleschReadingEase = fleschReadingEase; }
+
+    public double getGunningFog() { return gunningFog; }
+    public void setGunningFog(double gunningFog) { this.gunningFog = gunningFog; }
+
+    public double getSmogIndex() { return smogIndex; }
+    public void setSmogIndex(double smogIndex) { this.smogIndex = smogIndex; }
+
+    public double getColemanLiauIndex() { return colemanLiauIndex; }
+    public void setColemanLiauIndex(double colemanLiauIndex) { this.colemanLiauIndex = colemanLiauIndex; }
+
+    public double getAutomatedReadabilityIndex() { return automatedReadabilityIndex; }
+    public void setAutomatedReadabilityIndex(double automatedReadabilityIndex) {
+        this.automatedReadabilityIndex = automatedReadabilityIndex;
+    }
 }
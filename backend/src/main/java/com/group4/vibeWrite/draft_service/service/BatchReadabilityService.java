@@ -0,0 +1,93 @@
+package com.group4.vibeWrite.draft_service.service;
+
+import com.group4.vibeWrite.DraftSchema.Entity.Draft;
+import com.group4.vibeWrite.DraftSchema.Repository.DraftRepository;
+import com.group4.vibeWrite.Util.ContentHasher;
+import com.group4.vibeWrite.draft_service.model.BatchReadabilityItem;
+import com.group4.vibeWrite.draft_service.model.BatchReadabilityRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Service
+public class BatchReadabilityService {
+
+    private final FleschKincaidService fleschKincaidService;
+    private final DraftRepository draftRepository;
+    private final Executor readabilityTaskExecutor;
+    private final int maxBatchSize;
+
+    public BatchReadabilityService(FleschKincaidService fleschKincaidService,
+                                   DraftRepository draftRepository,
+                                   @Qualifier("readabilityTaskExecutor") Executor readabilityTaskExecutor,
+                                   @Value("${vibewrite.readability.batch-max-size:500}") int maxBatchSize) {
+        this.fleschKincaidService = fleschKincaidService;
+        this.draftRepository = draftRepository;
+        this.readabilityTaskExecutor = readabilityTaskExecutor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Validates the batch and starts scoring every item on the readability executor.
+     * The returned futures are in request order (texts first, then draft IDs) and never
+     * complete exceptionally; a failed item carries its error message instead.
+     */
+    public List<CompletableFuture<BatchReadabilityItem>> submit(BatchReadabilityRequest request) {
+        List<String> texts = request.getTexts() != null ? request.getTexts() : List.of();
+        List<String> draftIds = request.getDraftIds() != null ? request.getDraftIds() : List.of();
+
+        int total = texts.size() + draftIds.size();
+        if (total == 0) {
+            throw new IllegalArgumentException("Batch must contain at least one text or draft ID");
+        }
+        if (total > maxBatchSize) {
+            throw new IllegalArgumentException("Batch cannot exceed " + maxBatchSize + " items");
+        }
+
+        // Load all requested drafts in one query
+        Map<String, Draft> drafts = new HashMap<>();
+        if (!draftIds.isEmpty()) {
+            for (Draft draft : draftRepository.findAllById(draftIds)) {
+                drafts.put(draft.getId(), draft);
+            }
+        }
+
+        List<CompletableFuture<BatchReadabilityItem>> futures = new ArrayList<>(total);
+        int index = 0;
+        for (String text : texts) {
+            futures.add(score(index++, null, text));
+        }
+        for (String draftId : draftIds) {
+            Draft draft = drafts.get(draftId);
+            if (draft == null) {
+                futures.add(CompletableFuture.completedFuture(
+                        new BatchReadabilityItem(index++, draftId, null, "Draft not found")));
+            } else if (draft.getReadability() != null
+                    && ContentHasher.sha256(draft.getContent()).equals(draft.getContentHash())) {
+                // Stored score is still current
+                futures.add(CompletableFuture.completedFuture(
+                        new BatchReadabilityItem(index++, draftId, draft.getReadability(), null)));
+            } else {
+                futures.add(score(index++, draftId, draft.getContent()));
+            }
+        }
+        return futures;
+    }
+
+    private CompletableFuture<BatchReadabilityItem> score(int index, String draftId, String text) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return new BatchReadabilityItem(index, draftId, fleschKincaidService.analyzeText(text), null);
+            } catch (IllegalArgumentException e) {
+                return new BatchReadabilityItem(index, draftId, null, e.getMessage());
+            }
+        }, readabilityTaskExecutor);
+    }
+}
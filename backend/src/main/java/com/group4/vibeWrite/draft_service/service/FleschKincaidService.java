@@ -1,29 +1,24 @@
 package com.group4.vibeWrite.draft_service.service;
 
+import com.group4.vibeWrite.Util.TextStatistics;
 import com.group4.vibeWrite.draft_service.model.ReadabilityResult;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Pattern;
-
 @Service
 public class FleschKincaidService {
 
-    private static final Pattern WORD_PATTERN = Pattern.compile("\\b\\w+\\b");
-    private static final Pattern SENTENCE_PATTERN = Pattern.compile("[.!?]+");
-    private static final Pattern VOWEL_PATTERN = Pattern.compile("[aeiouAEIOU]");
-
     public ReadabilityResult analyzeText(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        if (text == null || text.isBlank()) {
             throw new IllegalArgumentException("Text cannot be null or empty");
         }
 
-        text = text.trim();
-
-        int totalWords = countWords(text);
-        int totalSentences = countSentences(text);
-        int totalSyllables = countSyllables(text);
+        // Every count below comes from one scan of the text
+        TextStatistics stats = TextStatistics.of(text);
+        int totalWords = stats.getWords();
+        int totalSentences = Math.max(stats.getSentences(), 1); // At least 1 sentence
+        int totalSyllables = Math.max(stats.getSyllables(), 1); // At least 1 syllable
 
-        if (totalWords == 0 || totalSentences == 0) {
+        if (totalWords == 0) {
             throw new IllegalArgumentException("Text must contain at least one word and one sentence");
         }
 
@@ -35,61 +30,40 @@ public class FleschKincaidService {
         double fleschKincaidScore = 0.39 * averageWordsPerSentence +
                 11.8 * averageSyllablesPerWord - 15.59;
 
-        String gradeLevel = determineGradeLevel(fleschKincaidScore);
+        // Flesch Reading Ease: 206.835 - 1.015 × (words per sentence) - 84.6 × (syllables per word)
+        double fleschReadingEase = 206.835 - 1.015 * averageWordsPerSentence - 84.6 * averageSyllablesPerWord;
 
-        // Round to 2 decimal places
-        fleschKincaidScore = Math.round(fleschKincaidScore * 100.0) / 100.0;
-        averageWordsPerSentence = Math.round(averageWordsPerSentence * 100.0) / 100.0;
-        averageSyllablesPerWord = Math.round(averageSyllablesPerWord * 100.0) / 100.0;
+        // Gunning Fog: 0.4 × (words per sentence + 100 × complex words / words)
+        double gunningFog = 0.4 * (averageWordsPerSentence + 100.0 * stats.getPolysyllables() / totalWords);
 
-        return new ReadabilityResult(fleschKincaidScore, gradeLevel, totalWords,
-                totalSentences, totalSyllables,
-                averageWordsPerSentence, averageSyllablesPerWord);
-    }
+        // SMOG: 1.043 × √(polysyllables × 30 / sentences) + 3.1291
+        double smogIndex = 1.043 * Math.sqrt(stats.getPolysyllables() * 30.0 / totalSentences) + 3.1291;
 
-    private int countWords(String text) {
-        return (int) WORD_PATTERN.matcher(text).results().count();
-    }
+        // Coleman-Liau: 0.0588 × L - 0.296 × S - 15.8 (L = letters, S = sentences, per 100 words)
+        double lettersPer100Words = 100.0 * stats.getLetters() / totalWords;
+        double sentencesPer100Words = 100.0 * totalSentences / totalWords;
+        double colemanLiauIndex = 0.0588 * lettersPer100Words - 0.296 * sentencesPer100Words - 15.8;
 
-    private int countSentences(String text) {
-        int count = (int) SENTENCE_PATTERN.matcher(text).results().count();
-        return Math.max(count, 1); // At least 1 sentence
-    }
+        // Automated Readability Index: 4.71 × (characters per word) + 0.5 × (words per sentence) - 21.43
+        double automatedReadabilityIndex = 4.71 * stats.getCharacters() / totalWords
+                + 0.5 * averageWordsPerSentence - 21.43;
 
-    private int countSyllables(String text) {
-        String[] words = WORD_PATTERN.matcher(text).results()
-                .map(match -> match.group().toLowerCase())
-                .toArray(String[]::new);
+        String gradeLevel = determineGradeLevel(fleschKincaidScore);
 
-        int totalSyllables = 0;
-        for (String word : words) {
-            totalSyllables += countSyllablesInWord(word);
-        }
-        return Math.max(totalSyllables, 1); // At least 1 syllable
+        ReadabilityResult result = new ReadabilityResult(round(fleschKincaidScore), gradeLevel, totalWords,
+                totalSentences, totalSyllables,
+                round(averageWordsPerSentence), round(averageSyllablesPerWord));
+        result.setFleschReadingEase(round(fleschReadingEase));
+        result.setGunningFog(round(gunningFog));
+        result.setSmogIndex(round(smogIndex));
+        result.setColemanLiauIndex(round(colemanLiauIndex));
+        result.setAutomatedReadabilityIndex(round(automatedReadabilityIndex));
+        return result;
     }
 
-    private int countSyllablesInWord(String word) {
-        if (word.length() <= 3) return 1;
-
-        int syllables = 0;
-        boolean previousWasVowel = false;
-
-        for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-            boolean isVowel = VOWEL_PATTERN.matcher(String.valueOf(c)).matches();
-
-            if (isVowel && !previousWasVowel) {
-                syllables++;
-            }
-            previousWasVowel = isVowel;
-        }
-
-        // Handle silent 'e' at the end
-        if (word.endsWith("e") && syllables > 1) {
-            syllables--;
-        }
-
-        return Math.max(syllables, 1); // At least 1 syllable per word
+    // Round to 2 decimal places
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
     }
 
     private String determineGradeLevel(double score) {
@@ -0,0 +1,189 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.SeoAnalyst.DTO.ClientSeoIngestResult;
+import com.group4.vibeWrite.SeoAnalyst.DTO.SEOAnalyticsDTO;
+import com.group4.vibeWrite.SeoAnalyst.model.SeoAnalysis;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClientSeoIngestServiceTest {
+
+	private MongoTemplate mongoTemplate;
+	private BulkOperations bulkOps;
+	private CorpusIndexService corpusIndexService;
+	private ClientSeoIngestService service;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		bulkOps = mock(BulkOperations.class);
+		corpusIndexService = mock(CorpusIndexService.class);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SeoAnalysis.class)).thenReturn(bulkOps);
+		service = new ClientSeoIngestService(mongoTemplate, corpusIndexService, mock(SeoResultCache.class), 500);
+	}
+
+	@Test
+	void reportsAStatusPerItemFromTheBulkResult() {
+		when(mongoTemplate.find(any(Query.class), eq(SeoAnalysis.class)))
+				.thenReturn(List.of(stored("repeated", "repeated old"), stored("raced", "raced old")));
+
+		// Operations run for items 0, 3, 4 and 5: item 0 is upserted, 4 lost a race, 5 failed outright
+		BulkOperationException failure = mock(BulkOperationException.class);
+		when(failure.getResult()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 1,
+				List.of(new BulkWriteUpsert(0, new BsonString("new"))), List.of()));
+		when(failure.getErrors()).thenReturn(List.of(
+				new BulkWriteError(11000, "duplicate key", new BsonDocument(), 2),
+				new BulkWriteError(2, "bad value", new BsonDocument(), 3)));
+		when(bulkOps.execute()).thenThrow(failure);
+
+		SeoAnalysis replaced = stored("raced", "raced elsewhere");
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(SeoAnalysis.class))).thenReturn(replaced);
+
+		List<ClientSeoIngestResult> results = service.ingestAll(Arrays.asList(
+				dto("new", "user", "fresh words"),
+				dto("invalid", null, "no user"),
+				dto("repeated", "user", "first copy"),
+				dto("repeated", "user", "second copy"),
+				dto("raced", "user", "raced new"),
+				dto("broken", "user", "broken new")));
+
+		assertEquals(List.of("created", "invalid", "superseded", "updated", "updated", "failed"),
+				results.stream().map(ClientSeoIngestResult::getStatus).collect(Collectors.toList()));
+		assertNull(results.get(0).getError());
+		assertEquals("bad value", results.get(5).getError());
+		verify(corpusIndexService).recordChanges(
+				Arrays.asList(null, "repeated old", "raced elsewhere"),
+				List.of("fresh words", "second copy", "raced new"));
+	}
+
+	@Test
+	void guardsEachUpsertWithTheContentHashThatWasRead() {
+		SeoAnalysis existing = stored("existing", "old words");
+		when(mongoTemplate.find(any(Query.class), eq(SeoAnalysis.class))).thenReturn(List.of(existing));
+		when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1,
+				List.of(new BulkWriteUpsert(1, new BsonString("unseen"))), List.of()));
+
+		service.ingestAll(List.of(dto("existing", "user", "new words"), dto("unseen", "user", "first words")));
+
+		ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+		verify(bulkOps, times(2)).upsert(queries.capture(), any(Update.class));
+		assertEquals(existing.getContentHash(), queries.getAllValues().get(0).getQueryObject().get("contentHash"));
+		assertNull(queries.getAllValues().get(1).getQueryObject().get("contentHash"));
+		assertFalse(queries.getAllValues().get(0).getQueryObject().containsKey("content"));
+		verify(corpusIndexService).recordChanges(
+				Arrays.asList("old words", null), List.of("new words", "first words"));
+	}
+
+	@Test
+	void readsTheDocumentsBackWhenTheBulkWriteFailsWithoutDetails() {
+		when(mongoTemplate.find(any(Query.class), eq(SeoAnalysis.class)))
+				.thenReturn(List.of(stored("first", "old one"), stored("second", "old two")))
+				.thenReturn(List.of(stored("first", "one"), stored("second", "old two"), stored("third", "three")));
+		when(bulkOps.execute()).thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+		List<ClientSeoIngestResult> results = service.ingestAll(List.of(
+				dto("first", "user", "one"),
+				dto("second", "user", "two"),
+				dto("third", "user", "three")));
+
+		assertEquals(List.of("updated", "failed", "created"),
+				results.stream().map(ClientSeoIngestResult::getStatus).collect(Collectors.toList()));
+		assertEquals("connection lost", results.get(1).getError());
+		verify(corpusIndexService).recordChanges(Arrays.asList("old one", null), List.of("one", "three"));
+		verify(corpusIndexService, never()).invalidate();
+	}
+
+	@Test
+	void failsEveryItemAndInvalidatesTheIndexWhenNothingCanBeReadBack() {
+		when(mongoTemplate.find(any(Query.class), eq(SeoAnalysis.class)))
+				.thenReturn(List.of())
+				.thenThrow(new DataAccessResourceFailureException("still down"));
+		when(bulkOps.execute()).thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+		List<ClientSeoIngestResult> results = service.ingestAll(List.of(
+				dto("first", "user", "one"),
+				dto("second", "user", "two")));
+
+		for (ClientSeoIngestResult result : results) {
+			assertEquals("failed", result.getStatus());
+			assertEquals("connection lost", result.getError());
+		}
+		verify(corpusIndexService, never()).recordChanges(anyList(), anyList());
+		verify(corpusIndexService).invalidate();
+	}
+
+	@Test
+	void returnsTheStoredDocumentFromTheSameFindAndModify() {
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+		converter.afterPropertiesSet();
+		when(mongoTemplate.getConverter()).thenReturn(converter);
+
+		SeoAnalysis previous = stored("doc", "old words");
+		previous.setSentimentScore(0.75);
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+				eq(SeoAnalysis.class))).thenReturn(previous);
+
+		SEOAnalyticsDTO dto = dto("doc", "user", "new words");
+		dto.setKeywordDensity(new HashMap<>(Map.of("words", 2.0, "new", 1.0)));
+		SeoAnalysis result = service.ingest(dto);
+
+		assertEquals("doc", result.getDocumentId());
+		assertEquals("new words", result.getContent());
+		assertEquals("client_ai", result.getSource());
+		assertEquals(0.75, result.getSentimentScore());
+		assertEquals("words", result.getKeywords().get(0).getTerm());
+		verify(mongoTemplate, never()).findById(any(), eq(SeoAnalysis.class));
+		verify(corpusIndexService).recordChanges(List.of("old words"), List.of("new words"));
+	}
+
+	private static SeoAnalysis stored(String documentId, String content) {
+		SeoAnalysis analysis = new SeoAnalysis();
+		analysis.setDocumentId(documentId);
+		analysis.setContent(content);
+		analysis.setContentHash(SeoResultCache.contentHash(content, SeoAnalyzerService.keywordLimit(null)));
+		return analysis;
+	}
+
+	private static SEOAnalyticsDTO dto(String documentId, String userId, String content) {
+		SEOAnalyticsDTO dto = new SEOAnalyticsDTO();
+		dto.setDocumentId(documentId);
+		dto.setUserId(userId);
+		dto.setContent(content);
+		return dto;
+	}
+}
@@ -0,0 +1,114 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import com.group4.vibeWrite.Util.TextScan;
+import com.group4.vibeWrite.Util.TextScanner;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetaDescriptionGeneratorTest {
+
+	private static final String[] VOCABULARY = {
+			"search", "ranking", "content", "writing", "draft", "keyword",
+			"page", "traffic", "reader", "title", "link", "grammar"
+	};
+
+	@Test
+	void choosesTheBestScoringSentencesThatFit() {
+		Random random = new Random(11);
+		for (int round = 0; round < 300; round++) {
+			Map<String, Double> keywordScores = new HashMap<>();
+			for (String word : VOCABULARY) {
+				keywordScores.put(word, random.nextInt(4) == 0 ? 0.0 : random.nextDouble());
+			}
+			String content = document(random, 1 + random.nextInt(10));
+			int maxLength = 20 + random.nextInt(120);
+
+			TextScan scan = TextScanner.scan(content);
+			String description = MetaDescriptionGenerator.generate(content, scan, keywordScores, maxLength);
+
+			assertTrue(description.length() <= maxLength, "Description over budget: " + description);
+			assertEquals(bestScore(scan, keywordScores, maxLength), score(description, keywordScores), 1e-9,
+					"content \"" + content + "\", max length " + maxLength);
+		}
+	}
+
+	@Test
+	void returnsNothingWhenNoSentenceFits() {
+		String content = "Search ranking depends on content quality.";
+		TextScan scan = TextScanner.scan(content);
+
+		assertEquals("", MetaDescriptionGenerator.generate(content, scan, Map.of("search", 1.0), 10));
+	}
+
+	@Test
+	void keepsDocumentOrderAndCollapsesWhitespace() {
+		String content = "Draft   first.\nSearch second! Reader\n\tthird?";
+		TextScan scan = TextScanner.scan(content);
+		Map<String, Double> scores = Map.of("draft", 1.0, "search", 1.0, "reader", 1.0);
+
+		assertEquals("Draft first. Search second! Reader third?",
+				MetaDescriptionGenerator.generate(content, scan, scores, 160));
+	}
+
+	// Best total score of any set of fitting sentences, trying every subset
+	private static double bestScore(TextScan scan, Map<String, Double> keywordScores, int maxLength) {
+		int sentences = scan.getSentenceCount();
+		double[] scores = new double[sentences];
+		int word = 0;
+		for (int s = 0; s < sentences; s++) {
+			for (int w = 0; w < scan.sentenceWordCount(s); w++, word++) {
+				scores[s] += keywordScores.getOrDefault(scan.token(word), 0.0);
+			}
+		}
+
+		double best = 0;
+		for (int subset = 1; subset < 1 << sentences; subset++) {
+			int length = -1; // no separator before the first sentence
+			double score = 0;
+			for (int s = 0; s < sentences; s++) {
+				if ((subset & 1 << s) != 0) {
+					length += scan.sentenceEnd(s) - scan.sentenceStart(s) + 1;
+					score += scores[s];
+				}
+			}
+			if (length <= maxLength) {
+				best = Math.max(best, score);
+			}
+		}
+		return best;
+	}
+
+	// The chosen sentences keep all their words, so rescoring the output sums their scores
+	private static double score(String description, Map<String, Double> keywordScores) {
+		TextScan scan = TextScanner.scan(description);
+		double score = 0;
+		for (int w = 0; w < scan.getWordCount(); w++) {
+			score += keywordScores.getOrDefault(scan.token(w), 0.0);
+		}
+		return score;
+	}
+
+	private static String document(Random random, int sentences) {
+		StringBuilder text = new StringBuilder();
+		for (int s = 0; s < sentences; s++) {
+			if (s > 0) {
+				text.append(' ');
+			}
+			int words = 1 + random.nextInt(8);
+			for (int w = 0; w < words; w++) {
+				if (w > 0) {
+					text.append(' ');
+				}
+				text.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+			}
+			text.append('.');
+		}
+		return text.toString();
+	}
+}
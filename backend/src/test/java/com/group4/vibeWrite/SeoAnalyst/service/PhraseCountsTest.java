@@ -0,0 +1,93 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PhraseCountsTest {
+
+	private static final Set<String> STOP_WORDS = Set.of("the", "and", "of");
+
+	private static final String[] VOCABULARY = {"content", "marketing", "strategy", "seo", "draft", "the", "and", "of"};
+
+	@Test
+	void matchesNaiveCountingOfWordWindows() {
+		Random random = new Random(3);
+		for (int round = 0; round < 2_000; round++) {
+			String content = document(random);
+			PhraseCounts phrases = PhraseCounts.of(TermCounts.of(content, STOP_WORDS));
+
+			Map<String, Integer> expected = naiveCounts(content);
+			Map<String, Integer> actual = new HashMap<>();
+			for (int i = 0; i < phrases.size(); i++) {
+				actual.put(phrases.phrase(i), phrases.countAt(i));
+				assertEquals(phrases.phrase(i).split(" ").length, phrases.lengthAt(i));
+			}
+
+			assertEquals(expected, actual, content);
+			expected.forEach((phrase, count) -> assertEquals(count, phrases.count(phrase), phrase));
+		}
+	}
+
+	@Test
+	void doesNotCountPhrasesAcrossStopWordsOrSentences() {
+		PhraseCounts phrases = PhraseCounts.of(TermCounts.of(
+				"Content marketing works. Marketing strategy and content marketing strategy.", STOP_WORDS));
+
+		assertEquals(2, phrases.count("content marketing"));
+		assertEquals(2, phrases.count("marketing strategy"));
+		assertEquals(1, phrases.count("content marketing strategy"));
+		assertEquals(0, phrases.count("works marketing"));
+		assertEquals(0, phrases.count("strategy content"));
+		assertEquals(0, phrases.count("content"));
+		assertEquals(0, phrases.count("unknown phrase"));
+		assertEquals(2.0 / 9, phrases.density("content marketing"), 1e-9);
+	}
+
+	// Bigrams and trigrams of consecutive content words, found by joining words into strings
+	private static Map<String, Integer> naiveCounts(String content) {
+		Map<String, Integer> counts = new HashMap<>();
+		for (String sentence : content.split("\\.")) {
+			String[] words = sentence.trim().toLowerCase().split(" +");
+			for (int length = PhraseCounts.MIN_LENGTH; length <= PhraseCounts.MAX_LENGTH; length++) {
+				windows:
+				for (int start = 0; start + length <= words.length; start++) {
+					StringBuilder phrase = new StringBuilder();
+					for (int i = start; i < start + length; i++) {
+						if (words[i].isEmpty() || STOP_WORDS.contains(words[i])) {
+							continue windows;
+						}
+						if (i > start) {
+							phrase.append(' ');
+						}
+						phrase.append(words[i]);
+					}
+					counts.merge(phrase.toString(), 1, Integer::sum);
+				}
+			}
+		}
+		return counts;
+	}
+
+	private static String document(Random random) {
+		StringBuilder text = new StringBuilder();
+		int sentences = 1 + random.nextInt(4);
+		for (int s = 0; s < sentences; s++) {
+			int words = 1 + random.nextInt(12);
+			for (int w = 0; w < words; w++) {
+				if (text.length() > 0) {
+					text.append(' ');
+				}
+				String word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+				text.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+			}
+			text.append('.');
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,54 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static com.group4.vibeWrite.SeoAnalyst.service.TermCountsTest.STOP_WORDS;
+import static com.group4.vibeWrite.SeoAnalyst.service.TermCountsTest.document;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Wall-clock scaling check for TermCounts. Excluded from the default test run; run it with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class TermCountsBenchmarkTest {
+
+	private static final int[] SIZES = {10_000, 25_000, 50_000};
+
+	@Test
+	void scalesLinearlyUpTo50kWords() {
+		String[] documents = new String[SIZES.length];
+		for (int i = 0; i < SIZES.length; i++) {
+			documents[i] = document(SIZES[i]);
+		}
+
+		// Warm up the JIT before timing
+		for (int run = 0; run < 20; run++) {
+			for (String text : documents) {
+				TermCounts.of(text, STOP_WORDS);
+			}
+		}
+
+		long[] nanos = new long[SIZES.length];
+		for (int i = 0; i < SIZES.length; i++) {
+			nanos[i] = bestOf(documents[i], 15);
+			System.out.printf("TermCounts: %,d words %.2f ms, %.2fx the %,d-word time for %.1fx the words%n",
+					SIZES[i], nanos[i] / 1e6, (double) nanos[i] / nanos[0], SIZES[0], (double) SIZES[i] / SIZES[0]);
+		}
+
+		double ratio = (double) nanos[SIZES.length - 1] / nanos[0];
+		// Five times the words should cost about five times as long; a quadratic pass would be ~25x
+		assertTrue(ratio < 10, "Expected linear scaling, 5x input took " + ratio + "x as long");
+	}
+
+	private static long bestOf(String text, int runs) {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < runs; i++) {
+			long start = System.nanoTime();
+			TermCounts.of(text, STOP_WORDS);
+			best = Math.min(best, System.nanoTime() - start);
+		}
+		return best;
+	}
+}
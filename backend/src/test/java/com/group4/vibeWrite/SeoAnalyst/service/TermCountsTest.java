@@ -0,0 +1,54 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TermCountsTest {
+
+	static final Set<String> STOP_WORDS = Set.of("the", "and", "of", "to", "a");
+
+	@Test
+	void countsEveryTokenOnce() {
+		TermCounts counts = TermCounts.of("The cat saw the cat. A dog, the cat's friend, barked!", STOP_WORDS);
+
+		assertEquals(11, counts.getTotalWords());
+		assertEquals(7, counts.getContentWords());
+		assertEquals(2, counts.count("cat"));
+		assertEquals(1, counts.count("cats"));
+		assertEquals(0, counts.count("the"));
+		assertEquals(2.0 / 11, counts.density("cat"), 1e-9);
+		assertEquals(2.0 / 7, counts.termFrequency("cat"), 1e-9);
+	}
+
+	@Test
+	void countsA50kWordDocument() {
+		TermCounts counts = TermCounts.of(document(50_000), STOP_WORDS);
+
+		assertEquals(50_000, counts.getTotalWords());
+		assertEquals(50_000, counts.getContentWords());
+		int counted = 0;
+		for (int id = 0; id < counts.distinctTerms(); id++) {
+			counted += counts.countAt(id);
+		}
+		assertEquals(50_000, counted);
+	}
+
+	// Deterministic document of the given length with a skewed vocabulary
+	static String document(int words) {
+		Random random = new Random(42);
+		StringBuilder text = new StringBuilder(words * 8);
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				text.append(i % 12 == 0 ? ". " : " ");
+			}
+			// Skewed vocabulary so some terms repeat heavily and others are rare
+			int term = (int) Math.abs(random.nextGaussian() * 2_000);
+			text.append("term").append((char) ('a' + term % 26)).append((char) ('a' + term / 26 % 26));
+		}
+		return text.toString();
+	}
+}
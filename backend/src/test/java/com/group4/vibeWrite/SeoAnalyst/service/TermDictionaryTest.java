@@ -0,0 +1,74 @@
+package com.group4.vibeWrite.SeoAnalyst.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TermDictionaryTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void snapshotRoundTripsEveryTerm() throws IOException {
+		String longTerm = "x".repeat(70_000);
+		TermDictionary dictionary = new TermDictionary();
+		for (int i = 0; i < 5_000; i++) {
+			dictionary.setDocumentFrequency("term" + i, i % 97);
+		}
+		dictionary.setDocumentFrequency("key phrase", 3);
+		dictionary.setDocumentFrequency(longTerm, 2);
+		dictionary.setTotalDocuments(1_234);
+		dictionary.setChangeCount(42);
+		dictionary.setIndexVersion(CorpusIndexService.INDEX_VERSION);
+
+		Path snapshot = directory.resolve("terms.bin");
+		dictionary.writeSnapshot(snapshot);
+		TermDictionary read = TermDictionary.readSnapshot(snapshot);
+
+		assertEquals(dictionary.size(), read.size());
+		assertEquals(1_234, read.getTotalDocuments());
+		assertEquals(42, read.getChangeCount());
+		assertEquals(CorpusIndexService.INDEX_VERSION, read.getIndexVersion());
+		for (int i = 0; i < 5_000; i++) {
+			assertEquals(i % 97, read.documentFrequency("term" + i));
+		}
+		assertEquals(3, read.documentFrequency("key phrase"));
+		assertEquals(2, read.documentFrequency(longTerm));
+		assertEquals(0, read.documentFrequency("missing"));
+	}
+
+	@Test
+	void rejectsUnrecognisedSnapshots() throws IOException {
+		Path snapshot = directory.resolve("terms.bin");
+		Files.write(snapshot, new byte[] {0x53, 0x45, 0x4F, 0x54, 0, 0, 0, 1});
+
+		assertThrows(IOException.class, () -> TermDictionary.readSnapshot(snapshot));
+	}
+
+	@Test
+	void tracksOnlyConsecutiveChanges() {
+		TermDictionary dictionary = new TermDictionary();
+		dictionary.setChangeCount(7);
+
+		dictionary.applyChange(Map.of("seo", 2, "draft", 1), 2, 8);
+		assertEquals(8, dictionary.getChangeCount());
+		assertEquals(2, dictionary.documentFrequency("seo"));
+		assertEquals(2, dictionary.getTotalDocuments());
+
+		// Change 9 went through another writer, so this mirror no longer matches the index
+		dictionary.applyChange(Map.of("seo", -1), 0, 10);
+		assertEquals(TermDictionary.UNKNOWN_CHANGES, dictionary.getChangeCount());
+		assertEquals(1, dictionary.documentFrequency("seo"));
+
+		dictionary.applyChange(Map.of("draft", 1), 0, 11);
+		assertEquals(TermDictionary.UNKNOWN_CHANGES, dictionary.getChangeCount());
+	}
+}
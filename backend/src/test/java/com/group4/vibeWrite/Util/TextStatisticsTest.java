@@ -0,0 +1,78 @@
+package com.group4.vibeWrite.Util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextStatisticsTest {
+
+	@Test
+	void estimatesSyllablesFromVowelGroups() {
+		assertEquals(1, syllables("cat"));
+		assertEquals(1, syllables("the"));
+		assertEquals(1, syllables("make"));
+		assertEquals(1, syllables("code"));
+		assertEquals(1, syllables("you"));
+		assertEquals(1, syllables("eye"));
+	}
+
+	@Test
+	void countsYAsAVowel() {
+		assertEquals(2, syllables("happy"));
+		assertEquals(1, syllables("rhythm"));
+		assertEquals(1, syllables("fly"));
+	}
+
+	@Test
+	void countsShortWordsByVowelGroups() {
+		assertEquals(2, syllables("ago"));
+		assertEquals(1, syllables("bee"));
+	}
+
+	@Test
+	void addsASyllableForConsonantLeEndings() {
+		assertEquals(2, syllables("table"));
+		assertEquals(2, syllables("simple"));
+		assertEquals(2, syllables("little"));
+		assertEquals(2, syllables("apple"));
+	}
+
+	@Test
+	void prefersTheDictionaryCount() {
+		assertEquals(3, syllables("idea"));
+		assertEquals(4, syllables("absolutely"));
+	}
+
+	@Test
+	void readsCountsFromTheSharedScan() {
+		String text = "Don't panic. It costs 3.14 dollars, everything included!";
+		TextStatistics stats = TextStatistics.of(text);
+		TextScan scan = TextScanner.scan(text);
+
+		assertEquals(8, stats.getWords());
+		assertEquals(2, stats.getSentences());
+		assertEquals(scan.getSyllableCount(), stats.getSyllables());
+		assertEquals(41, stats.getLetters());
+		assertEquals(44, stats.getCharacters());
+		assertEquals(2, stats.getPolysyllables());
+	}
+
+	@Test
+	void countingPassMatchesTheFullScan() {
+		String text = "Readability matters... Does it?! Trailing words without a stop";
+		TextStatistics counted = TextStatistics.of(text);
+		TextStatistics scanned = TextStatistics.of(TextScanner.scan(text));
+
+		assertEquals(scanned.getWords(), counted.getWords());
+		assertEquals(3, counted.getSentences());
+		assertEquals(scanned.getSentences(), counted.getSentences());
+		assertEquals(scanned.getSyllables(), counted.getSyllables());
+		assertEquals(scanned.getLetters(), counted.getLetters());
+		assertEquals(scanned.getCharacters(), counted.getCharacters());
+		assertEquals(scanned.getPolysyllables(), counted.getPolysyllables());
+	}
+
+	private static int syllables(String word) {
+		return TextStatistics.countSyllables(word.toCharArray(), word.length());
+	}
+}
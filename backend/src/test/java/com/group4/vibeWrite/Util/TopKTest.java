@@ -0,0 +1,47 @@
+package com.group4.vibeWrite.Util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKTest {
+
+	@Test
+	void matchesAFullSort() {
+		Random random = new Random(7);
+		for (int round = 0; round < 200; round++) {
+			List<Integer> items = new ArrayList<>();
+			int n = random.nextInt(60);
+			for (int i = 0; i < n; i++) {
+				items.add(random.nextInt(20)); // small range, so ties are common
+			}
+			int k = random.nextInt(70);
+
+			List<Integer> sorted = new ArrayList<>(items);
+			sorted.sort(Comparator.reverseOrder());
+			List<Integer> expected = sorted.subList(0, Math.min(k, sorted.size()));
+
+			assertEquals(expected, TopK.largest(items, k, Comparator.naturalOrder()), "items " + items + ", k " + k);
+		}
+	}
+
+	@Test
+	void returnsNothingForNonPositiveK() {
+		assertTrue(TopK.largest(List.of(3, 1, 2), 0, Comparator.naturalOrder()).isEmpty());
+		assertTrue(TopK.largest(List.of(3, 1, 2), -1, Comparator.naturalOrder()).isEmpty());
+	}
+
+	@Test
+	void selectsEntriesWithTheLargestValues() {
+		Map<String, Double> scores = Map.of("seo", 0.4, "draft", 0.9, "grammar", 0.1, "tone", 0.7);
+
+		List<Map.Entry<String, Double>> top = TopK.largestByValue(scores, 2);
+
+		assertEquals(2, top.size());
+		assertEquals("draft", top.get(0).getKey());
+		assertEquals("tone", top.get(1).getKey());
+	}
+}